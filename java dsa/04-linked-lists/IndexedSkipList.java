@@ -0,0 +1,597 @@
+/**
+ * Indexed Skip List - SinglyLinkedList's API with O(log n) positional access
+ *
+ * SinglyLinkedList.get, insertAtIndex and deleteAtIndex walk node by node. A skip list
+ * adds express lanes on top of the base list, and storing the span (number of base
+ * nodes skipped) on every forward pointer lets a search count positions as it goes -
+ * so get/insert/delete at an index are O(log n) expected.
+ *
+ * In sorted mode the list keeps its values ordered: insert(value), contains, indexOf
+ * and deleteByValue become O(log n) searches by value
+ */
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+public class IndexedSkipList {
+    
+    private static final int MAX_LEVEL = 32;  // Enough for 2^32 elements at p = 1/2
+    
+    // Node with one forward pointer and one span per level
+    static class Node {
+        int data;
+        Node[] next;
+        int[] span;   // span[l] = positions from this node to next[l] (to one past the end if null)
+        
+        Node(int data, int level) {
+            this.data = data;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+    
+    private final Node head;       // Sentinel at position 0; elements are at positions 1..size
+    private final boolean sorted;
+    private int level;             // Levels in use (1..MAX_LEVEL)
+    private int size;
+    private long seed;             // xorshift state for level generation
+    
+    // Scratch for searches: predecessor and its position at each level
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+    
+    // Constructor
+    public IndexedSkipList() {
+        this(false);
+    }
+    
+    // sorted = true keeps values in ascending order (sorted-insert mode)
+    public IndexedSkipList(boolean sorted) {
+        this.sorted = sorted;
+        this.head = new Node(0, MAX_LEVEL);
+        this.seed = 0x2545F4914F6CDD1DL;
+        clear();
+    }
+    
+    // Random level with P(level > k) = 1/2^k
+    private int randomLevel() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return Math.min(Long.numberOfTrailingZeros(seed) + 1, MAX_LEVEL);
+    }
+    
+    public boolean isSorted() {
+        return sorted;
+    }
+    
+    /**
+     * SEARCH HELPERS
+     */
+    
+    // Fill update/rank with, per level, the last node at position <= target - O(log n)
+    private void findByPosition(int target) {
+        Node x = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.span[l] <= target) {
+                position += x.span[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            rank[l] = position;
+        }
+    }
+    
+    // Fill update/rank with, per level, the last node whose value is < value (<= when afterEqual) - O(log n)
+    private void findByValue(int value, boolean afterEqual) {
+        Node x = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && (x.next[l].data < value || (afterEqual && x.next[l].data == value))) {
+                position += x.span[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            rank[l] = position;
+        }
+    }
+    
+    // Link a new node in at index, using update/rank from the preceding search
+    private void linkAt(int index, int data) {
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                update[l] = head;
+                rank[l] = 0;
+                head.span[l] = size + 1;
+            }
+            level = nodeLevel;
+        }
+        
+        Node newNode = new Node(data, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            newNode.next[l] = update[l].next[l];
+            update[l].next[l] = newNode;
+            // update[l] sits at rank[l], the new node at index + 1
+            newNode.span[l] = update[l].span[l] - (index - rank[l]);
+            update[l].span[l] = index - rank[l] + 1;
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].span[l]++;  // Passes over the new node
+        }
+        size++;
+    }
+    
+    // Unlink the node at index, using update/rank from findByPosition(index)
+    private int unlinkAt() {
+        Node target = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            if (update[l].next[l] == target) {
+                update[l].span[l] += target.span[l] - 1;
+                update[l].next[l] = target.next[l];
+            } else {
+                update[l].span[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return target.data;
+    }
+    
+    private void requireUnsorted(String operation) {
+        if (sorted) {
+            throw new IllegalStateException(operation + " would break sorted order; use insert(value)");
+        }
+    }
+    
+    /**
+     * INSERT OPERATIONS
+     */
+    
+    // Insert at the beginning - O(log n)
+    public void insertAtHead(int data) {
+        insertAtIndex(0, data);
+    }
+    
+    // Insert at the end - O(log n)
+    public void insertAtTail(int data) {
+        insertAtIndex(size, data);
+    }
+    
+    // Insert at specific index - O(log n)
+    public void insertAtIndex(int index, int data) {
+        requireUnsorted("Positional insert");
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        findByPosition(index);
+        linkAt(index, data);
+    }
+    
+    // Sorted mode: insert after any equal values, return the index it landed at - O(log n)
+    public int insert(int data) {
+        if (!sorted) {
+            throw new IllegalStateException("insert(value) requires sorted mode");
+        }
+        findByValue(data, true);
+        int index = rank[0];
+        linkAt(index, data);
+        return index;
+    }
+    
+    /**
+     * DELETE OPERATIONS
+     */
+    
+    // Delete from head - O(log n)
+    public int deleteFromHead() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return deleteAtIndex(0);
+    }
+    
+    // Delete from tail - O(log n)
+    public int deleteFromTail() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return deleteAtIndex(size - 1);
+    }
+    
+    // Delete first occurrence of value - O(log n) sorted, O(n) otherwise
+    public boolean deleteByValue(int value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+        deleteAtIndex(index);
+        return true;
+    }
+    
+    // Delete at specific index - O(log n)
+    public int deleteAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        findByPosition(index);
+        return unlinkAt();
+    }
+    
+    /**
+     * SEARCH OPERATIONS
+     */
+    
+    // Search for a value - O(log n) sorted, O(n) otherwise
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+    
+    // Get value at index - O(log n)
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node x = head;
+        int position = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && position + x.span[l] <= index + 1) {
+                position += x.span[l];
+                x = x.next[l];
+            }
+            if (position == index + 1) {
+                break;
+            }
+        }
+        return x.data;
+    }
+    
+    // Replace value at index - O(log n); not allowed in sorted mode
+    public int set(int index, int data) {
+        requireUnsorted("set");
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        findByPosition(index);
+        Node x = update[0].next[0];
+        int old = x.data;
+        x.data = data;
+        return old;
+    }
+    
+    // Find index of value - O(log n) sorted, O(n) otherwise
+    public int indexOf(int value) {
+        if (sorted) {
+            findByValue(value, false);
+            Node candidate = update[0].next[0];
+            return candidate != null && candidate.data == value ? rank[0] : -1;
+        }
+        int index = 0;
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            if (current.data == value) {
+                return index;
+            }
+            index++;
+        }
+        return -1; // Not found
+    }
+    
+    /**
+     * RANGE ITERATION
+     */
+    
+    // Visit indices [fromIndex, toIndex) - O(log n + k)
+    public void forEachInRange(int fromIndex, int toIndex, IntConsumer action) {
+        PrimitiveIterator.OfInt it = iterator(fromIndex, toIndex);
+        while (it.hasNext()) {
+            action.accept(it.nextInt());
+        }
+    }
+    
+    // Sorted mode: visit values in [low, high] - O(log n + k)
+    public void forEachInValueRange(int low, int high, IntConsumer action) {
+        if (!sorted) {
+            throw new IllegalStateException("Value ranges require sorted mode");
+        }
+        findByValue(low, false);
+        for (Node current = update[0].next[0]; current != null && current.data <= high; current = current.next[0]) {
+            action.accept(current.data);
+        }
+    }
+    
+    // Iterator over indices [fromIndex, toIndex); positioned in O(log n)
+    public PrimitiveIterator.OfInt iterator(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + size);
+        }
+        findByPosition(fromIndex);
+        Node first = update[0].next[0];
+        return new PrimitiveIterator.OfInt() {
+            private Node current = first;
+            private int remaining = toIndex - fromIndex;
+            
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+            
+            @Override
+            public int nextInt() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int data = current.data;
+                current = current.next[0];
+                remaining--;
+                return data;
+            }
+        };
+    }
+    
+    /**
+     * UTILITY OPERATIONS
+     */
+    
+    // Get size - O(1)
+    public int size() {
+        return size;
+    }
+    
+    // Check if empty - O(1)
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    // Remove all elements - O(MAX_LEVEL)
+    public void clear() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = null;
+            head.span[l] = 1;
+        }
+        level = 1;
+        size = 0;
+    }
+    
+    // Display the list - O(n)
+    public void display() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("List: ");
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            System.out.print(current.data);
+            if (current.next[0] != null) {
+                System.out.print(" -> ");
+            }
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Rebuild from values in one pass - O(n)
+    private void rebuild(int[] values, int count) {
+        clear();
+        Node[] last = new Node[MAX_LEVEL];
+        int[] lastPosition = new int[MAX_LEVEL];
+        java.util.Arrays.fill(last, head);
+        for (int i = 0; i < count; i++) {
+            int nodeLevel = randomLevel();
+            Node node = new Node(values[i], nodeLevel);
+            for (int l = 0; l < nodeLevel; l++) {
+                last[l].next[l] = node;
+                last[l].span[l] = i + 1 - lastPosition[l];
+                last[l] = node;
+                lastPosition[l] = i + 1;
+            }
+            level = Math.max(level, nodeLevel);
+        }
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            last[l].span[l] = count + 1 - lastPosition[l];
+        }
+        size = count;
+    }
+    
+    // Reverse the list - O(n); not allowed in sorted mode
+    public void reverse() {
+        requireUnsorted("reverse");
+        int[] values = toArray();
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        rebuild(values, values.length);
+    }
+    
+    // Find middle element - O(log n)
+    public Integer findMiddle() {
+        return size == 0 ? null : get(size / 2);
+    }
+    
+    // A skip list is acyclic by construction; kept for API parity with SinglyLinkedList
+    public boolean hasCycle() {
+        return false;
+    }
+    
+    // Remove adjacent duplicates (all duplicates in sorted mode) - O(n)
+    public void removeDuplicates() {
+        int[] values = toArray();
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (count == 0 || values[count - 1] != values[i]) {
+                values[count++] = values[i];
+            }
+        }
+        if (count != values.length) {
+            rebuild(values, count);
+        }
+    }
+    
+    // Convert to array - O(n)
+    public int[] toArray() {
+        int[] array = new int[size];
+        int index = 0;
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            array[index++] = current.data;
+        }
+        return array;
+    }
+    
+    /**
+     * BENCHMARK - positional edits against SinglyLinkedList
+     */
+    public static void benchmark(int n, int operations) {
+        SinglyLinkedList linked = new SinglyLinkedList();
+        IndexedSkipList skip = new IndexedSkipList();
+        for (int i = 0; i < n; i++) {
+            linked.insertAtHead(n - 1 - i);  // insertAtHead keeps SinglyLinkedList building O(n)
+            skip.insertAtTail(i);
+        }
+        
+        // Same mix for both lists: 50% get, 25% insertAtIndex, 25% deleteAtIndex
+        Random random = new Random(1);
+        int[] kinds = new int[operations];
+        int[] indices = new int[operations];
+        int length = n;
+        for (int op = 0; op < operations; op++) {
+            kinds[op] = random.nextInt(4);
+            if (kinds[op] == 2) {
+                indices[op] = random.nextInt(length + 1);
+                length++;
+            } else {
+                indices[op] = random.nextInt(length);
+                if (kinds[op] == 3) {
+                    length--;
+                }
+            }
+        }
+        
+        for (int round = 0; round < 3; round++) {  // First rounds are JIT warm-up
+            long sink = 0;
+            
+            long start = System.nanoTime();
+            for (int op = 0; op < operations; op++) {
+                int index = indices[op];
+                if (kinds[op] == 2) {
+                    linked.insertAtIndex(index, op);
+                } else if (kinds[op] == 3) {
+                    sink += linked.deleteAtIndex(index);
+                } else {
+                    sink += linked.get(index);
+                }
+            }
+            long linkedTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int op = 0; op < operations; op++) {
+                int index = indices[op];
+                if (kinds[op] == 2) {
+                    skip.insertAtIndex(index, op);
+                } else if (kinds[op] == 3) {
+                    sink -= skip.deleteAtIndex(index);
+                } else {
+                    sink -= skip.get(index);
+                }
+            }
+            long skipTime = System.nanoTime() - start;
+            
+            if (round == 2) {
+                System.out.println("n = " + n + ", " + operations + " positional operations (checksum " + sink + ")");
+                System.out.printf("SinglyLinkedList %8.2f ms (%7.0f ns/op)%n", linkedTime / 1e6, (double) linkedTime / operations);
+                System.out.printf("IndexedSkipList  %8.2f ms (%7.0f ns/op), %.0fx faster%n",
+                        skipTime / 1e6, (double) skipTime / operations, (double) linkedTime / skipTime);
+            }
+        }
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Indexed Skip List Demo ===\n");
+        
+        IndexedSkipList list = new IndexedSkipList();
+        
+        // Test insertions
+        System.out.println("=== Testing Insertions ===");
+        list.insertAtHead(10);
+        list.insertAtHead(20);
+        list.insertAtTail(30);
+        list.insertAtTail(40);
+        list.insertAtIndex(2, 25);
+        list.display();
+        System.out.println("Size: " + list.size());
+        
+        // Test positional access and search
+        System.out.println("\n=== Testing Access ===");
+        System.out.println("Element at index 2: " + list.get(2));
+        System.out.println("Index of 30: " + list.indexOf(30));
+        System.out.println("Contains 25: " + list.contains(25));
+        System.out.println("Middle element: " + list.findMiddle());
+        
+        // Test deletions
+        System.out.println("\n=== Testing Deletions ===");
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("Deleted value 25: " + list.deleteByValue(25));
+        list.display();
+        
+        list.reverse();
+        System.out.print("Reversed - ");
+        list.display();
+        
+        // Sorted-insert mode
+        System.out.println("\n=== Sorted Mode ===");
+        IndexedSkipList sortedList = new IndexedSkipList(true);
+        int[] values = {42, 7, 19, 7, 88, 3, 56, 19};
+        for (int value : values) {
+            sortedList.insert(value);
+        }
+        sortedList.display();
+        System.out.println("Index of 19: " + sortedList.indexOf(19));
+        System.out.print("Values in [10, 60]: ");
+        sortedList.forEachInValueRange(10, 60, v -> System.out.print(v + " "));
+        System.out.print("\nIndices [2, 5): ");
+        sortedList.forEachInRange(2, 5, v -> System.out.print(v + " "));
+        sortedList.removeDuplicates();
+        System.out.print("\nWithout duplicates - ");
+        sortedList.display();
+        
+        // Benchmark
+        System.out.println("\n=== Benchmark ===");
+        benchmark(1_000_000, 400);
+    }
+}
+
+/*
+INDEXED SKIP LIST KEY CONCEPTS:
+
+SKIP LIST:
+- Sorted or positional base list plus express lanes
+- Each node gets a random level: P(level > k) = 1/2^k
+- Expected O(log n) levels, O(n) total pointers (about 2 per node)
+
+SPANS (WHAT MAKES IT INDEXABLE):
+- Each forward pointer stores how many base positions it jumps
+- Searching by position: take a pointer only if position + span <= target
+- Insert: the predecessor's span is split between it and the new node;
+  higher levels that pass over the new node get span + 1
+- Delete: predecessors linking to the node absorb its span - 1;
+  higher levels passing over it get span - 1
+
+MODES:
+- Positional: SinglyLinkedList semantics, any order
+- Sorted: insert(value) finds its place by value; contains/indexOf/deleteByValue
+  and value ranges are O(log n) as well
+
+COMPLEXITY (expected):
+- get / insertAtIndex / deleteAtIndex: O(log n)  (SinglyLinkedList: O(n))
+- Range iteration: O(log n + k)
+- reverse / removeDuplicates: O(n) rebuild
+*/
\ No newline at end of file
@@ -0,0 +1,517 @@
+/**
+ * Unrolled Linked List - Linked list of small arrays
+ *
+ * Same API as SinglyLinkedList, but each node holds a block of up to 32-128 ints.
+ * Scans (get, contains, indexOf) touch one node per block instead of one per element,
+ * so they run over contiguous memory with far fewer pointer hops
+ */
+
+public class UnrolledLinkedList {
+    
+    private static final int DEFAULT_BLOCK_CAPACITY = 64;
+    
+    // Node class - a block of elements
+    static class Node {
+        int[] items;
+        int count;   // Number of used slots in items
+        Node next;
+        
+        Node(int capacity) {
+            this.items = new int[capacity];
+            this.count = 0;
+            this.next = null;
+        }
+    }
+    
+    private Node head;         // First block
+    private Node tail;         // Last block - makes insertAtTail O(1)
+    private int size;          // Total number of elements
+    private final int blockCapacity;
+    
+    // Constructor
+    public UnrolledLinkedList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+    
+    public UnrolledLinkedList(int blockCapacity) {
+        if (blockCapacity < 32 || blockCapacity > 128) {
+            throw new IllegalArgumentException("Block capacity must be 32-128: " + blockCapacity);
+        }
+        this.blockCapacity = blockCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+    
+    /**
+     * BLOCK HELPERS
+     */
+    
+    // Blocks below this fill are merged with / refilled from their successor
+    private int minFill() {
+        return blockCapacity / 2;
+    }
+    
+    // Insert after 'prev' (or at the front when prev is null)
+    private Node newNodeAfter(Node prev) {
+        Node node = new Node(blockCapacity);
+        if (prev == null) {
+            node.next = head;
+            head = node;
+        } else {
+            node.next = prev.next;
+            prev.next = node;
+        }
+        if (node.next == null) {
+            tail = node;
+        }
+        return node;
+    }
+    
+    // Move the upper half of a full block into a new block after it
+    private Node split(Node node) {
+        Node right = newNodeAfter(node);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.items, half, right.items, 0, moved);
+        right.count = moved;
+        node.count = half;
+        return right;
+    }
+    
+    // Put 'data' at offset within node, splitting first if the block is full
+    private void insertInto(Node node, int offset, int data) {
+        if (node.count == blockCapacity) {
+            Node right = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = right;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = data;
+        node.count++;
+        size++;
+    }
+    
+    // Remove element at offset within node (prev = node before it), rebalancing underfull blocks
+    private int removeFrom(Node prev, Node node, int offset) {
+        int data = node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.count--;
+        size--;
+        
+        if (node.count == 0) {
+            unlink(prev, node);
+        } else if (node.count < minFill() && node.next != null) {
+            Node next = node.next;
+            if (node.count + next.count <= blockCapacity) {
+                // Merge the successor into this block
+                System.arraycopy(next.items, 0, node.items, node.count, next.count);
+                node.count += next.count;
+                unlink(node, next);
+            } else {
+                // Borrow from the successor until this block is back at minimum fill
+                int borrow = minFill() - node.count;
+                System.arraycopy(next.items, 0, node.items, node.count, borrow);
+                System.arraycopy(next.items, borrow, next.items, 0, next.count - borrow);
+                node.count += borrow;
+                next.count -= borrow;
+            }
+        }
+        return data;
+    }
+    
+    private void unlink(Node prev, Node node) {
+        if (prev == null) {
+            head = node.next;
+        } else {
+            prev.next = node.next;
+        }
+        if (tail == node) {
+            tail = prev;
+        }
+    }
+    
+    /**
+     * INSERT OPERATIONS
+     */
+    
+    // Insert at the beginning - O(block capacity)
+    public void insertAtHead(int data) {
+        if (head == null) {
+            newNodeAfter(null);
+        }
+        insertInto(head, 0, data);
+    }
+    
+    // Insert at the end - O(1)
+    public void insertAtTail(int data) {
+        if (tail == null || tail.count == blockCapacity) {
+            newNodeAfter(tail);
+        }
+        tail.items[tail.count++] = data;
+        size++;
+    }
+    
+    // Insert at specific index - O(n / block capacity + block capacity)
+    public void insertAtIndex(int index, int data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == size) {
+            insertAtTail(data);
+            return;
+        }
+        
+        // Skip whole blocks until the one containing index
+        Node current = head;
+        while (index > current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+        insertInto(current, index, data);
+    }
+    
+    /**
+     * DELETE OPERATIONS
+     */
+    
+    // Delete from head - O(block capacity)
+    public int deleteFromHead() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return removeFrom(null, head, 0);
+    }
+    
+    // Delete from tail - O(n / block capacity) to find the block before the tail
+    public int deleteFromTail() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return deleteAtIndex(size - 1);
+    }
+    
+    // Delete by value - O(n)
+    public boolean deleteByValue(int value) {
+        Node prev = null;
+        for (Node current = head; current != null; prev = current, current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                if (current.items[i] == value) {
+                    removeFrom(prev, current, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    // Delete at specific index - O(n / block capacity + block capacity)
+    public int deleteAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node prev = null;
+        Node current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            prev = current;
+            current = current.next;
+        }
+        return removeFrom(prev, current, index);
+    }
+    
+    /**
+     * SEARCH AND ACCESS OPERATIONS
+     */
+    
+    // Search for a value - O(n), but sequential within each block
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+    
+    // Get value at index - O(n / block capacity)
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+        return current.items[index];
+    }
+    
+    // Find index of value - O(n)
+    public int indexOf(int value) {
+        int base = 0;
+        for (Node current = head; current != null; current = current.next) {
+            int[] items = current.items;
+            for (int i = 0; i < current.count; i++) {
+                if (items[i] == value) {
+                    return base + i;
+                }
+            }
+            base += current.count;
+        }
+        return -1; // Not found
+    }
+    
+    /**
+     * UTILITY OPERATIONS
+     */
+    
+    // Get size - O(1)
+    public int size() {
+        return size;
+    }
+    
+    // Check if empty - O(1)
+    public boolean isEmpty() {
+        return head == null;
+    }
+    
+    // Number of blocks - O(n / block capacity)
+    public int blockCount() {
+        int blocks = 0;
+        for (Node current = head; current != null; current = current.next) {
+            blocks++;
+        }
+        return blocks;
+    }
+    
+    // Display the list, one bracket per block - O(n)
+    public void display() {
+        if (head == null) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("List: ");
+        for (Node current = head; current != null; current = current.next) {
+            System.out.print("[");
+            for (int i = 0; i < current.count; i++) {
+                System.out.print(current.items[i]);
+                if (i < current.count - 1) {
+                    System.out.print(", ");
+                }
+            }
+            System.out.print("] -> ");
+        }
+        System.out.println("null");
+    }
+    
+    // Reverse the list: reverse block order, then each block's contents - O(n)
+    public void reverse() {
+        Node prev = null;
+        Node current = head;
+        tail = head;
+        
+        while (current != null) {
+            Node next = current.next;
+            current.next = prev;
+            for (int i = 0, j = current.count - 1; i < j; i++, j--) {
+                int temp = current.items[i];
+                current.items[i] = current.items[j];
+                current.items[j] = temp;
+            }
+            prev = current;
+            current = next;
+        }
+        
+        head = prev;
+    }
+    
+    // Find middle element (same position as SinglyLinkedList's slow/fast pointers) - O(n / block capacity)
+    public Integer findMiddle() {
+        if (head == null) {
+            return null;
+        }
+        return get(size / 2);
+    }
+    
+    // Remove duplicates from sorted list - O(n); compacts blocks as a side effect
+    public void removeDuplicates() {
+        if (head == null) {
+            return;
+        }
+        
+        // Write cursor trails the read cursor, so values are never overwritten before being read
+        Node writeNode = head;
+        int writeIndex = 1;
+        int last = head.items[0];
+        int kept = 1;
+        
+        for (Node read = head; read != null; read = read.next) {
+            for (int i = (read == head ? 1 : 0); i < read.count; i++) {
+                int value = read.items[i];
+                if (value == last) {
+                    continue;
+                }
+                if (writeIndex == blockCapacity) {
+                    writeNode = writeNode.next;
+                    writeIndex = 0;
+                }
+                writeNode.items[writeIndex++] = value;
+                last = value;
+                kept++;
+            }
+        }
+        
+        // Blocks before writeNode are full; drop everything after it
+        for (Node current = head; current != writeNode; current = current.next) {
+            current.count = blockCapacity;
+        }
+        writeNode.count = writeIndex;
+        writeNode.next = null;
+        tail = writeNode;
+        size = kept;
+    }
+    
+    // Convert to array - O(n)
+    public int[] toArray() {
+        int[] array = new int[size];
+        int index = 0;
+        for (Node current = head; current != null; current = current.next) {
+            System.arraycopy(current.items, 0, array, index, current.count);
+            index += current.count;
+        }
+        return array;
+    }
+    
+    /**
+     * SCAN BENCHMARK - UnrolledLinkedList vs SinglyLinkedList
+     */
+    public static void benchmark(int n) {
+        SinglyLinkedList linked = new SinglyLinkedList();
+        UnrolledLinkedList unrolled = new UnrolledLinkedList();
+        for (int i = 0; i < n; i++) {
+            linked.insertAtHead(n - 1 - i);  // insertAtHead keeps SinglyLinkedList building O(n)
+            unrolled.insertAtTail(i);
+        }
+        
+        int queries = 200;
+        java.util.Random random = new java.util.Random(1);
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            targets[q] = random.nextInt(n);
+        }
+        
+        for (int round = 0; round < 3; round++) {  // First rounds are JIT warm-up
+            long sink = 0;
+            
+            long start = System.nanoTime();
+            for (int target : targets) sink += linked.indexOf(target);
+            long linkedIndexOf = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int target : targets) sink += unrolled.indexOf(target);
+            long unrolledIndexOf = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int target : targets) sink += linked.get(target);
+            long linkedGet = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int target : targets) sink += unrolled.get(target);
+            long unrolledGet = System.nanoTime() - start;
+            
+            if (round == 2) {
+                System.out.println("n = " + n + ", " + queries + " queries (checksum " + sink + ")");
+                System.out.printf("indexOf: SinglyLinkedList %6.2f ms, UnrolledLinkedList %6.2f ms (%.1fx)%n",
+                        linkedIndexOf / 1e6, unrolledIndexOf / 1e6, (double) linkedIndexOf / unrolledIndexOf);
+                System.out.printf("get:     SinglyLinkedList %6.2f ms, UnrolledLinkedList %6.2f ms (%.1fx)%n",
+                        linkedGet / 1e6, unrolledGet / 1e6, (double) linkedGet / unrolledGet);
+            }
+        }
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Unrolled Linked List Demo ===\n");
+        
+        UnrolledLinkedList list = new UnrolledLinkedList(32);
+        
+        // Test insertions
+        System.out.println("=== Testing Insertions ===");
+        list.insertAtHead(10);
+        list.insertAtHead(20);
+        list.insertAtTail(30);
+        list.insertAtTail(40);
+        list.insertAtIndex(2, 25);
+        list.display();
+        
+        // Fill past one block to force splits
+        for (int i = 0; i < 70; i++) {
+            list.insertAtIndex(1, 100 + i);
+        }
+        System.out.println("After 70 inserts at index 1: size=" + list.size() + ", blocks=" + list.blockCount());
+        
+        // Test access operations
+        System.out.println("\n=== Testing Access Operations ===");
+        System.out.println("Element at index 2: " + list.get(2));
+        System.out.println("Index of 30: " + list.indexOf(30));
+        System.out.println("Contains 25: " + list.contains(25));
+        
+        // Test deletions - blocks merge as they empty
+        System.out.println("\n=== Testing Deletions ===");
+        for (int i = 0; i < 70; i++) {
+            list.deleteAtIndex(1);
+        }
+        System.out.println("After 70 deletes at index 1: size=" + list.size() + ", blocks=" + list.blockCount());
+        list.display();
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("Deleted value 25: " + list.deleteByValue(25));
+        list.display();
+        
+        // Test advanced operations
+        System.out.println("\n=== Testing Advanced Operations ===");
+        list.reverse();
+        System.out.print("After reverse: ");
+        list.display();
+        
+        UnrolledLinkedList sortedList = new UnrolledLinkedList(32);
+        for (int i = 0; i < 100; i++) {
+            sortedList.insertAtTail(i / 3);
+        }
+        sortedList.removeDuplicates();
+        System.out.println("Sorted 0..33 (each x3) after removeDuplicates: size=" + sortedList.size()
+                + ", last=" + sortedList.get(sortedList.size() - 1));
+        
+        System.out.println("\n=== Scan Benchmark ===");
+        benchmark(200_000);
+    }
+}
+
+/*
+UNROLLED LINKED LIST KEY CONCEPTS:
+
+STRUCTURE:
+- Linked list of blocks; each block is a small array plus a count
+- Blocks stay between half full and full (except possibly the last)
+
+WHY IT'S FASTER TO SCAN:
+✅ One pointer hop per block instead of per element
+✅ Elements within a block are contiguous - cache lines and prefetching work
+✅ Less memory: one header + next pointer per block, not per element
+❌ Insert/delete shift up to one block of elements
+❌ More complex split/merge logic
+
+SPLIT AND MERGE:
+- Insert into a full block: split it in half, then insert
+- Delete leaves a block under half full: merge with the next block if both fit,
+  otherwise borrow elements from it
+
+COMPLEXITY (B = block capacity):
+- get(index): O(n / B)
+- insert/delete at index: O(n / B + B)
+- contains/indexOf: O(n), but with array-speed inner loops
+*/
\ No newline at end of file
@@ -0,0 +1,403 @@
+/**
+ * Bounded Work Queue - ArrayQueue's circular buffer as a blocking task queue
+ *
+ * Same core as QueueImplementation.ArrayQueue (front index, size, wrap-around), but:
+ * - put/take park the calling thread on ReentrantLock Conditions instead of throwing;
+ *   unlike synchronized/wait, a virtual thread parked here releases its carrier thread
+ * - a backpressure policy decides what a full queue does: BLOCK the producer,
+ *   DROP_OLDEST queued work, DROP_NEWEST (discard the offered task) or FAIL fast
+ * - depth and wait-time metrics show where the pipeline is backing up
+ */
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BoundedWorkQueue<E> {
+    
+    // What put() does when the queue is full
+    public enum Policy {
+        BLOCK,        // Wait for space
+        DROP_OLDEST,  // Discard the front element to make room
+        DROP_NEWEST,  // Discard the element being offered
+        FAIL          // Throw RejectedExecutionException
+    }
+    
+    private final Object[] queue;
+    private final int capacity;
+    private final Policy policy;
+    private int front;      // Index of front element
+    private int size;       // Current number of elements
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    
+    // Metrics (guarded by lock)
+    private int peakSize;
+    private long accepted;
+    private long taken;
+    private long dropped;
+    private long rejected;
+    private long putWaits;
+    private long putWaitNanos;
+    private long takeWaits;
+    private long takeWaitNanos;
+    
+    // Constructor
+    public BoundedWorkQueue(int capacity, Policy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.queue = new Object[capacity];
+        this.policy = policy;
+    }
+    
+    // Caller holds the lock and there is room
+    private void insert(E element) {
+        int rear = front + size;
+        queue[rear >= capacity ? rear - capacity : rear] = element;  // Circular increment without %
+        size++;
+        accepted++;
+        if (size > peakSize) {
+            peakSize = size;
+        }
+        notEmpty.signal();
+    }
+    
+    // Caller holds the lock and the queue is not empty
+    @SuppressWarnings("unchecked")
+    private E extract() {
+        E element = (E) queue[front];
+        queue[front] = null;  // Let the task be garbage collected
+        front = front + 1 == capacity ? 0 : front + 1;
+        size--;
+        notFull.signal();
+        return element;
+    }
+    
+    /**
+     * PRODUCER SIDE
+     */
+    
+    // Add a task, applying the backpressure policy when full; false if the task was dropped
+    public boolean put(E element) throws InterruptedException {
+        if (element == null) {
+            throw new NullPointerException("Null tasks are not allowed");
+        }
+        lock.lockInterruptibly();
+        try {
+            if (size == capacity) {
+                switch (policy) {
+                    case BLOCK:
+                        long start = System.nanoTime();
+                        putWaits++;
+                        while (size == capacity) {
+                            notFull.await();
+                        }
+                        putWaitNanos += System.nanoTime() - start;
+                        break;
+                    case DROP_OLDEST:
+                        extract();
+                        dropped++;
+                        break;
+                    case DROP_NEWEST:
+                        dropped++;
+                        return false;
+                    default:
+                        rejected++;
+                        throw new RejectedExecutionException("Queue Overflow: " + capacity + " tasks pending");
+                }
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Add a task only if there is room right now - never blocks or drops
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Null tasks are not allowed");
+        }
+        lock.lock();
+        try {
+            if (size == capacity) {
+                return false;
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * CONSUMER SIDE
+     */
+    
+    // Remove the front task, waiting until one is available
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (size == 0) {
+                long start = System.nanoTime();
+                takeWaits++;
+                while (size == 0) {
+                    notEmpty.await();
+                }
+                takeWaitNanos += System.nanoTime() - start;
+            }
+            taken++;
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Remove the front task, waiting at most the timeout; null if none arrived
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (size == 0) {
+                long start = System.nanoTime();
+                takeWaits++;
+                while (size == 0 && remaining > 0) {
+                    remaining = notEmpty.awaitNanos(remaining);
+                }
+                takeWaitNanos += System.nanoTime() - start;
+                if (size == 0) {
+                    return null;
+                }
+            }
+            taken++;
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * METRICS
+     */
+    
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    public Policy policy() {
+        return policy;
+    }
+    
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(size, peakSize, accepted, taken, dropped, rejected,
+                    putWaits, putWaitNanos, takeWaits, takeWaitNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Snapshot of the queue's counters
+    public static final class Stats {
+        public final int depth;
+        public final int peakDepth;
+        public final long accepted;
+        public final long taken;
+        public final long dropped;
+        public final long rejected;
+        public final long putWaits;
+        public final long putWaitNanos;
+        public final long takeWaits;
+        public final long takeWaitNanos;
+        
+        Stats(int depth, int peakDepth, long accepted, long taken, long dropped, long rejected,
+              long putWaits, long putWaitNanos, long takeWaits, long takeWaitNanos) {
+            this.depth = depth;
+            this.peakDepth = peakDepth;
+            this.accepted = accepted;
+            this.taken = taken;
+            this.dropped = dropped;
+            this.rejected = rejected;
+            this.putWaits = putWaits;
+            this.putWaitNanos = putWaitNanos;
+            this.takeWaits = takeWaits;
+            this.takeWaitNanos = takeWaitNanos;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("depth=%d peak=%d accepted=%d taken=%d dropped=%d rejected=%d "
+                            + "putWaits=%d (avg %.1f us) takeWaits=%d (avg %.1f us)",
+                    depth, peakDepth, accepted, taken, dropped, rejected,
+                    putWaits, putWaits == 0 ? 0.0 : putWaitNanos / 1e3 / putWaits,
+                    takeWaits, takeWaits == 0 ? 0.0 : takeWaitNanos / 1e3 / takeWaits);
+        }
+    }
+    
+    /**
+     * DISPATCH BENCHMARK - 1M tiny tasks through the queue to platform or virtual worker threads
+     */
+    
+    private static final Runnable STOP = () -> { };
+    
+    // Virtual threads need JDK 21+; found reflectively so this file still compiles on 17
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+    
+    // Run `tasks` tiny tasks through a queue of `capacity` with `workers` consumer threads
+    static long dispatch(ExecutorService executor, int workers, int tasks, int capacity)
+            throws InterruptedException {
+        BoundedWorkQueue<Runnable> queue = new BoundedWorkQueue<>(capacity, Policy.BLOCK);
+        LongAdder done = new LongAdder();
+        Runnable task = done::increment;
+        
+        for (int w = 0; w < workers; w++) {
+            executor.execute(() -> {
+                try {
+                    for (Runnable next = queue.take(); next != STOP; next = queue.take()) {
+                        next.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            queue.put(task);
+        }
+        for (int w = 0; w < workers; w++) {
+            queue.put(STOP);
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        
+        if (done.sum() != tasks) {
+            throw new IllegalStateException("Ran " + done.sum() + " of " + tasks + " tasks");
+        }
+        return elapsed;
+    }
+    
+    public static void benchmark(int tasks) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] workerCounts = {cores, 64, 1000};
+        System.out.printf("%-10s %20s %20s%n", "Workers", "Platform (tasks/s)", "Virtual (tasks/s)");
+        for (int workers : workerCounts) {
+            dispatch(Executors.newFixedThreadPool(workers), workers, tasks / 10, 1024);  // Warm-up
+            double platform = tasks * 1e9 / dispatch(Executors.newFixedThreadPool(workers), workers, tasks, 1024);
+            
+            String virtual = "n/a (JDK 21+)";
+            ExecutorService virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                dispatch(virtualExecutor, workers, tasks / 10, 1024);  // Warm-up
+                virtual = String.format("%.0f", tasks * 1e9 / dispatch(newVirtualThreadExecutor(), workers, tasks, 1024));
+            }
+            System.out.printf("%-10d %20.0f %20s%n", workers, platform, virtual);
+        }
+    }
+    
+    /**
+     * MAIN METHOD - Test the policies and run the benchmark
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Bounded Work Queue Demo ===\n");
+        
+        for (Policy policy : Policy.values()) {
+            BoundedWorkQueue<Integer> queue = new BoundedWorkQueue<>(3, policy);
+            StringBuilder outcome = new StringBuilder();
+            try {
+                for (int i = 1; i <= 5; i++) {
+                    if (policy == Policy.BLOCK && i > 3) {
+                        break;  // Would wait forever: nobody is consuming
+                    }
+                    outcome.append(queue.put(i) ? "" : "(dropped " + i + ") ");
+                }
+            } catch (RejectedExecutionException e) {
+                outcome.append("(").append(e.getMessage()).append(") ");
+            }
+            outcome.append("queue:");
+            while (queue.size() > 0) {
+                outcome.append(' ').append(queue.take());
+            }
+            System.out.printf("%-12s %s%n", policy, outcome);
+        }
+        
+        // A blocked producer resumes as soon as a consumer makes room
+        BoundedWorkQueue<Integer> handoff = new BoundedWorkQueue<>(2, Policy.BLOCK);
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 100; i++) {
+                    Thread.sleep(i % 10 == 0 ? 1 : 0);
+                    handoff.take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < 100; i++) {
+            handoff.put(i);
+        }
+        consumer.join();
+        System.out.println("\nHand-off stats: " + handoff.stats());
+        
+        System.out.println("\n=== Dispatch Benchmark (1M tasks, " + Runtime.getRuntime().availableProcessors()
+                + " cores, Java " + Runtime.version().feature() + ") ===");
+        benchmark(1_000_000);
+    }
+}
+
+/*
+BOUNDED WORK QUEUE KEY CONCEPTS:
+
+BLOCKING ON A CIRCULAR BUFFER:
+- Same layout as ArrayQueue: front index + size, wrap at capacity
+- put waits on notFull, take waits on notEmpty (Condition = wait set per lock)
+- while-loops around await() handle spurious wakeups
+
+WHY REENTRANTLOCK, NOT SYNCHRONIZED:
+- A virtual thread blocked inside synchronized pins its carrier (JDK 21-23)
+- Lock/Condition park the virtual thread and free the carrier for others
+- Two Conditions: producers and consumers wake only their own kind
+
+BACKPRESSURE POLICIES:
+- BLOCK: producer slows to consumer speed (no loss)
+- DROP_OLDEST: freshest data wins (telemetry, prices)
+- DROP_NEWEST: existing work wins (load shedding)
+- FAIL: caller decides (RejectedExecutionException)
+
+METRICS:
+- depth / peak depth: how full the buffer runs
+- put waits: producers blocked -> consumers too slow
+- take waits: consumers idle -> producers too slow
+
+PLATFORM VS VIRTUAL THREADS:
+- Platform: one OS thread each; thousands are expensive
+- Virtual: cheap, scheduled on a few carriers; great for many blocking workers,
+  no gain for CPU-bound tiny tasks
+*/
\ No newline at end of file
@@ -0,0 +1,346 @@
+/**
+ * Lock-Free Queue - Michael-Scott MPMC linked queue
+ *
+ * QueueImplementation.LinkedQueue is not thread-safe, so sharing it between threads
+ * means one lock around every call. This queue keeps the same linked structure
+ * (front/rear pointers, one node per element) but updates head and tail with
+ * compare-and-set via VarHandles, so any number of producers and consumers make
+ * progress without ever blocking each other
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LockFreeQueue {
+    
+    // Returned by poll() when the queue is empty (every int value fits in a long)
+    public static final long EMPTY = Long.MIN_VALUE;
+    
+    // Node class - data is final so it is safely published by the CAS that links the node
+    static class Node {
+        final int data;
+        volatile Node next;
+        
+        Node(int data) {
+            this.data = data;
+        }
+    }
+    
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    // head is a dummy node; the front element is head.next. tail may lag by one node
+    private volatile Node head;
+    private volatile Node tail;
+    
+    // Constructor
+    public LockFreeQueue() {
+        Node dummy = new Node(0);
+        head = dummy;
+        tail = dummy;
+    }
+    
+    // Add element to rear - O(1), lock-free
+    public void enqueue(int data) {
+        Node newNode = new Node(data);
+        while (true) {
+            Node last = tail;
+            Node next = last.next;
+            if (last != tail) {
+                continue;  // tail moved while we read it
+            }
+            if (next == null) {
+                // Tail is really the last node: try to link after it
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);  // Failure is fine: someone helped
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);  // Tail lagging: help swing it forward
+            }
+        }
+    }
+    
+    // Remove element from front, or EMPTY - O(1), lock-free
+    public long poll() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return EMPTY;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);  // Tail lagging behind a linked node
+                continue;
+            }
+            int data = next.data;
+            if (HEAD.compareAndSet(this, first, next)) {
+                return data;  // next is the new dummy
+            }
+        }
+    }
+    
+    // Remove element from front - O(1), same contract as LinkedQueue.dequeue
+    public int dequeue() {
+        long data = poll();
+        if (data == EMPTY) {
+            throw new RuntimeException("Queue Underflow: Cannot dequeue from empty queue");
+        }
+        return (int) data;
+    }
+    
+    // Peek at front element - O(1)
+    public int front() {
+        Node next = head.next;
+        if (next == null) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return next.data;
+    }
+    
+    // Peek at rear element - O(1) amortized (tail may lag one node behind)
+    public int rear() {
+        Node last = tail;
+        for (Node next = last.next; next != null; next = last.next) {
+            last = next;
+        }
+        if (last == head) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return last.data;
+    }
+    
+    // Check if empty - O(1)
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+    
+    // Get size - O(n): a snapshot count, only exact when no other thread is active
+    public int size() {
+        int count = 0;
+        for (Node current = head.next; current != null; current = current.next) {
+            count++;
+        }
+        return count;
+    }
+    
+    // Display queue
+    public void display() {
+        Node current = head.next;
+        if (current == null) {
+            System.out.println("Queue is empty");
+            return;
+        }
+        
+        System.out.print("Queue (front to rear): ");
+        while (current != null) {
+            System.out.print(current.data);
+            if (current.next != null) {
+                System.out.print(" -> ");
+            }
+            current = current.next;
+        }
+        System.out.println();
+    }
+    
+    /**
+     * CONTENTION BENCHMARK - LockFreeQueue vs ConcurrentLinkedQueue vs locked LinkedQueue
+     */
+    
+    // Minimal queue view so the three queues run through the same harness
+    interface IntQueue {
+        void enqueue(int data);
+        long poll();
+    }
+    
+    // Producers enqueue their share (values >= 0); once they are done, one POISON per
+    // consumer follows, so consumers stop without sharing a counter on the hot path
+    private static final int POISON = -1;
+    
+    private static double measureThroughput(IntQueue queue, int producers, int consumers, int items)
+            throws InterruptedException {
+        int perProducer = items / producers;
+        long total = (long) perProducer * producers;
+        AtomicLong consumed = new AtomicLong();  // Updated once per consumer, at the end
+        AtomicLong checksum = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+        
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue(i);
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                awaitQuietly(start);
+                long sum = 0;
+                long count = 0;
+                while (true) {
+                    long data = queue.poll();
+                    if (data == EMPTY) {
+                        Thread.yield();  // Let producers run (matters when threads > cores)
+                    } else if (data == POISON) {
+                        break;
+                    } else {
+                        sum += data;
+                        count++;
+                    }
+                }
+                consumed.addAndGet(count);
+                checksum.addAndGet(sum);
+            });
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (int p = 0; p < producers; p++) {
+            threads[p].join();
+        }
+        for (int c = 0; c < consumers; c++) {
+            queue.enqueue(POISON);  // FIFO: behind every produced item
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c].join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        
+        long expected = (long) producers * perProducer * (perProducer - 1L) / 2;
+        if (consumed.get() != total || checksum.get() != expected) {
+            throw new IllegalStateException("Lost or duplicated items: " + consumed.get() + " of " + total
+                    + ", checksum " + checksum.get() + " != " + expected);
+        }
+        return total * 1e9 / elapsed;
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public static void benchmark(int items) throws InterruptedException {
+        int[][] configurations = {{1, 1}, {4, 4}, {16, 16}};
+        
+        System.out.printf("%-8s %18s %18s %18s%n", "Config", "Lock-free (ops/s)", "CLQ (ops/s)", "Locked (ops/s)");
+        for (int[] config : configurations) {
+            int producers = config[0];
+            int consumers = config[1];
+            
+            LockFreeQueue lockFree = new LockFreeQueue();
+            ConcurrentLinkedQueue<Integer> clq = new ConcurrentLinkedQueue<>();
+            QueueImplementation.LinkedQueue linked = new QueueImplementation.LinkedQueue();
+            
+            IntQueue lockFreeQueue = new IntQueue() {
+                public void enqueue(int data) { lockFree.enqueue(data); }
+                public long poll() { return lockFree.poll(); }
+            };
+            IntQueue clqQueue = new IntQueue() {
+                public void enqueue(int data) { clq.offer(data); }
+                public long poll() {
+                    Integer data = clq.poll();
+                    return data == null ? EMPTY : data;
+                }
+            };
+            // What callers do today: one lock around the whole queue
+            IntQueue lockedQueue = new IntQueue() {
+                public synchronized void enqueue(int data) { linked.enqueue(data); }
+                public synchronized long poll() { return linked.isEmpty() ? EMPTY : linked.dequeue(); }
+            };
+            
+            // Warm-up run so the JIT has compiled the hot paths before timing
+            measureThroughput(lockFreeQueue, producers, consumers, items);
+            measureThroughput(clqQueue, producers, consumers, items);
+            measureThroughput(lockedQueue, producers, consumers, items);
+            
+            System.out.printf("%-8s %18.0f %18.0f %18.0f%n", producers + "P" + consumers + "C",
+                    measureThroughput(lockFreeQueue, producers, consumers, items),
+                    measureThroughput(clqQueue, producers, consumers, items),
+                    measureThroughput(lockedQueue, producers, consumers, items));
+        }
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation and run the benchmark
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Lock-Free Queue Demo ===\n");
+        
+        LockFreeQueue queue = new LockFreeQueue();
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        queue.display();
+        System.out.println("Front: " + queue.front() + ", Rear: " + queue.rear());
+        System.out.println("Dequeued: " + queue.dequeue());
+        System.out.println("Size: " + queue.size());
+        queue.dequeue();
+        queue.dequeue();
+        System.out.println("Is empty: " + queue.isEmpty() + ", poll on empty == EMPTY: " + (queue.poll() == EMPTY));
+        try {
+            queue.dequeue();
+        } catch (RuntimeException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        
+        System.out.println("\n=== Contention Benchmark (" + Runtime.getRuntime().availableProcessors() + " cores) ===");
+        benchmark(1_000_000);
+    }
+}
+
+/*
+LOCK-FREE QUEUE KEY CONCEPTS:
+
+MICHAEL-SCOTT QUEUE:
+- Linked list with a dummy head node; front element = head.next
+- Enqueue: CAS last.next from null to the new node, then CAS tail forward
+- Dequeue: read head.next's data, then CAS head forward (old next becomes dummy)
+- Tail may lag one node behind; any thread that notices helps advance it
+
+WHY IT'S LOCK-FREE:
+- A failed CAS means another thread succeeded - the system always progresses
+- No thread ever waits for another to release a lock
+- A preempted thread cannot stall the others
+
+VARHANDLE CAS:
+- MethodHandles.lookup().findVarHandle gives atomic access to plain fields
+- compareAndSet has volatile semantics: writes before it are visible after it
+- data is final, so a linked node's value is always seen correctly
+
+ABA:
+- Not an issue in Java: nodes are never reused while a thread can still hold
+  a reference, because the garbage collector keeps them alive
+
+TRADE-OFFS:
+✅ Scales with producers/consumers, no blocking
+✅ Same enqueue/dequeue/front/isEmpty contract as LinkedQueue
+❌ size() is O(n) and only a snapshot under concurrency
+❌ One allocation per element, CAS retries under heavy contention
+*/
\ No newline at end of file
@@ -14,28 +14,46 @@ public class QueueImplementation {
         private int front;      // Index of front element
         private int rear;       // Index of rear element
         private int size;       // Current number of elements
-        private int capacity;   // Maximum capacity
+        private int capacity;   // Maximum capacity (current array length when growable)
+        private final int minCapacity;   // Shrinking never goes below the initial capacity
+        private final boolean growable;  // Double instead of overflowing
+        private final boolean shrinkable;  // Halve when only 1/4 full
+        private int resizes;    // Number of grow/shrink copies
         
-        // Constructor
+        // Constructor - fixed capacity, overflows when full
         public ArrayQueue(int capacity) {
-            this.capacity = capacity;
-            this.queue = new int[capacity];
+            this(capacity, false, false);
+        }
+        
+        // Growable queue; shrinkable also releases memory as it empties
+        public ArrayQueue(int capacity, boolean growable, boolean shrinkable) {
+            if (!growable && shrinkable) {
+                throw new IllegalArgumentException("Only a growable queue can shrink");
+            }
+            this.capacity = growable ? Math.max(capacity, 1) : capacity;  // Doubling needs at least 1 slot
+            this.minCapacity = this.capacity;
+            this.queue = new int[this.capacity];
             this.front = 0;
             this.rear = -1;
             this.size = 0;
+            this.growable = growable;
+            this.shrinkable = shrinkable;
         }
         
-        // Add element to rear - O(1)
+        // Add element to rear - O(1), amortized O(1) when growable
         public void enqueue(int data) {
-            if (isFull()) {
-                throw new RuntimeException("Queue Overflow: Cannot enqueue " + data);
+            if (size == capacity) {
+                if (!growable) {
+                    throw new RuntimeException("Queue Overflow: Cannot enqueue " + data);
+                }
+                resize(capacity * 2);
             }
             rear = (rear + 1) % capacity;  // Circular increment
             queue[rear] = data;
             size++;
         }
         
-        // Remove element from front - O(1)
+        // Remove element from front - O(1), amortized O(1) when shrinkable
         public int dequeue() {
             if (isEmpty()) {
                 throw new RuntimeException("Queue Underflow: Cannot dequeue from empty queue");
@@ -43,9 +61,26 @@ public class QueueImplementation {
             int data = queue[front];
             front = (front + 1) % capacity;  // Circular increment
             size--;
+            // Shrink at 1/4, not 1/2, so enqueue/dequeue at the boundary doesn't thrash
+            if (shrinkable && capacity > minCapacity && size <= capacity / 4) {
+                resize(Math.max(capacity / 2, minCapacity));
+            }
             return data;
         }
         
+        // Copy into a new array, unwrapping so the front lands at index 0
+        private void resize(int newCapacity) {
+            int[] newQueue = new int[newCapacity];
+            int firstPart = Math.min(size, capacity - front);  // front .. end of old array
+            System.arraycopy(queue, front, newQueue, 0, firstPart);
+            System.arraycopy(queue, 0, newQueue, firstPart, size - firstPart);  // Wrapped part
+            queue = newQueue;
+            capacity = newCapacity;
+            front = 0;
+            rear = size - 1;
+            resizes++;
+        }
+        
         // Peek at front element - O(1)
         public int front() {
             if (isEmpty()) {
@@ -67,9 +102,19 @@ public class QueueImplementation {
             return size == 0;
         }
         
-        // Check if queue is full - O(1)
+        // Check if queue is full - O(1); a growable queue is never full
         public boolean isFull() {
-            return size == capacity;
+            return !growable && size == capacity;
+        }
+        
+        // Current array length - O(1)
+        public int capacity() {
+            return capacity;
+        }
+        
+        // Number of grow/shrink copies so far - O(1)
+        public int resizes() {
+            return resizes;
         }
         
         // Get current size - O(1)
@@ -446,6 +491,15 @@ public class QueueImplementation {
         System.out.println("Dequeue: " + arrayQueue.dequeue());
         arrayQueue.display();
         
+        // Growable queue: wraps around, then grows with an unwrapping copy
+        ArrayQueue growableQueue = new ArrayQueue(4, true, true);
+        for (int i = 1; i <= 4; i++) growableQueue.enqueue(i);
+        growableQueue.dequeue();
+        growableQueue.dequeue();
+        for (int i = 5; i <= 10; i++) growableQueue.enqueue(i);  // 5, 6 wrap; 7 triggers a resize
+        growableQueue.display();
+        System.out.println("Capacity: " + growableQueue.capacity() + ", resizes: " + growableQueue.resizes());
+        
         // Test Linked Queue
         System.out.println("\n=== Linked Queue Test ===");
         LinkedQueue linkedQueue = new LinkedQueue();
@@ -517,6 +571,11 @@ ARRAY QUEUE:
 ❌ Fixed size (can overflow)
 ❌ Circular logic complexity
 
+GROWABLE ARRAY QUEUE:
+- Full: double the array; shrinkable queues halve at 1/4 full
+- Resizing unwraps: copy front..end, then 0..rear, so front = 0 afterwards
+- Each resize is O(n) but happens after Θ(n) operations - amortized O(1)
+
 LINKED QUEUE:
 ✅ Dynamic size
 ✅ Simple logic
@@ -12,29 +12,59 @@ public class StackImplementation {
     static class ArrayStack {
         private int[] stack;
         private int top;        // Index of top element
-        private int capacity;   // Maximum size
+        private int capacity;   // Maximum size (current array length when growable)
+        private final int minCapacity;   // Shrinking never goes below the initial capacity
+        private final boolean growable;  // Double instead of overflowing
+        private final boolean shrinkable;  // Halve when only 1/4 full
+        private int resizes;    // Number of grow/shrink copies
         
-        // Constructor
+        // Constructor - fixed capacity, overflows when full
         public ArrayStack(int capacity) {
-            this.capacity = capacity;
-            this.stack = new int[capacity];
+            this(capacity, false, false);
+        }
+        
+        // Growable stack; shrinkable also releases memory as it empties
+        public ArrayStack(int capacity, boolean growable, boolean shrinkable) {
+            if (!growable && shrinkable) {
+                throw new IllegalArgumentException("Only a growable stack can shrink");
+            }
+            this.capacity = growable ? Math.max(capacity, 1) : capacity;  // Doubling needs at least 1 slot
+            this.minCapacity = this.capacity;
+            this.stack = new int[this.capacity];
             this.top = -1;  // Empty stack
+            this.growable = growable;
+            this.shrinkable = shrinkable;
         }
         
-        // Push element onto stack - O(1)
+        // Push element onto stack - O(1), amortized O(1) when growable
         public void push(int data) {
-            if (isFull()) {
-                throw new RuntimeException("Stack Overflow: Cannot push " + data);
+            if (top == capacity - 1) {
+                if (!growable) {
+                    throw new RuntimeException("Stack Overflow: Cannot push " + data);
+                }
+                resize(capacity * 2);
             }
             stack[++top] = data;
         }
         
-        // Pop element from stack - O(1)
+        // Pop element from stack - O(1), amortized O(1) when shrinkable
         public int pop() {
             if (isEmpty()) {
                 throw new RuntimeException("Stack Underflow: Cannot pop from empty stack");
             }
-            return stack[top--];
+            int data = stack[top--];
+            // Shrink at 1/4, not 1/2: the halved array is still half full, so a
+            // push/pop sequence at the boundary cannot trigger resize after resize
+            if (shrinkable && capacity > minCapacity && size() <= capacity / 4) {
+                resize(Math.max(capacity / 2, minCapacity));
+            }
+            return data;
+        }
+        
+        private void resize(int newCapacity) {
+            stack = java.util.Arrays.copyOf(stack, newCapacity);
+            capacity = newCapacity;
+            resizes++;
         }
         
         // Peek at top element without removing - O(1)
@@ -50,9 +80,19 @@ public class StackImplementation {
             return top == -1;
         }
         
-        // Check if stack is full - O(1)
+        // Check if stack is full - O(1); a growable stack is never full
         public boolean isFull() {
-            return top == capacity - 1;
+            return !growable && top == capacity - 1;
+        }
+        
+        // Current array length - O(1)
+        public int capacity() {
+            return capacity;
+        }
+        
+        // Number of grow/shrink copies so far - O(1)
+        public int resizes() {
+            return resizes;
         }
         
         // Get current size - O(1)
@@ -188,7 +228,20 @@ public class StackImplementation {
     }
     
     // Evaluate postfix expression (Reverse Polish Notation)
+    // Runs the cached compiled program, so repeated expressions are parsed only once;
+    // same tokens, results and exceptions as evaluatePostfixInterpreted
     public static int evaluatePostfix(String expression) {
+        CompiledExpression program = CompiledExpression.cachedIntPostfixOrNull(expression);
+        if (program == null) {
+            // Malformed: the one-pass evaluator reports the first error in token order
+            // (which may be a division by zero before the bad token)
+            return evaluatePostfixInterpreted(expression);
+        }
+        return program.evaluateInt();
+    }
+    
+    // Original one-pass evaluation: split, parse and compute on every call
+    public static int evaluatePostfixInterpreted(String expression) {
         ArrayStack stack = new ArrayStack(expression.length());
         String[] tokens = expression.split(" ");
         
@@ -302,6 +355,18 @@ public class StackImplementation {
         arrayStack.display();
         System.out.println("Size: " + arrayStack.size());
         
+        // Growable stack: doubles past its initial capacity, shrinks back as it empties
+        ArrayStack growableStack = new ArrayStack(2, true, true);
+        for (int i = 1; i <= 9; i++) {
+            growableStack.push(i);
+        }
+        System.out.println("Growable stack after 9 pushes: capacity " + growableStack.capacity());
+        while (growableStack.size() > 1) {
+            growableStack.pop();
+        }
+        System.out.println("After popping to 1 element: capacity " + growableStack.capacity()
+                + ", resizes " + growableStack.resizes());
+        
         // Test Linked Stack
         System.out.println("\n=== Linked Stack Test ===");
         LinkedStack linkedStack = new LinkedStack();
@@ -368,6 +433,13 @@ ARRAY STACK:
 ❌ Fixed size (can overflow)
 ❌ Memory waste if not fully used
 
+GROWABLE ARRAY STACK:
+- Full: copy into an array twice as large - amortized O(1) per push
+- 1/4 full: copy into an array half as large (never below the initial size)
+- Hysteresis: after a shrink the array is half full, so it takes n/2 more pushes
+  (or n/4 more pops) before the next resize - no thrashing at a boundary
+- vs ArrayDeque<Integer>: no boxing, 4 bytes per element instead of ~20
+
 LINKED STACK:
 ✅ Dynamic size (no overflow)
 ✅ Memory efficient (only allocates what's needed)
@@ -0,0 +1,362 @@
+/**
+ * Streaming Bracket Validator - Balanced brackets over inputs of any size
+ *
+ * StackImplementation.isBalancedParentheses needs the whole expression as a String
+ * and sizes its stack to the string length. This validator is fed chunk by chunk from
+ * a Reader or a ReadableByteChannel, so a multi-hundred-MB document never has to be in
+ * memory. Its stack holds one byte per open bracket (a plain counter when only one
+ * bracket type is checked), and a failure reports the exact offset where it happened.
+ * Independent documents can be validated in parallel
+ */
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public class StreamingBracketValidator {
+    
+    /**
+     * RESULT
+     */
+    public static final class Result {
+        private final boolean balanced;
+        private final long errorOffset;   // Offset of the offending character, or the input length; -1 if balanced
+        private final String message;
+        private final long length;
+        private final int maxDepth;
+        
+        Result(boolean balanced, long errorOffset, String message, long length, int maxDepth) {
+            this.balanced = balanced;
+            this.errorOffset = errorOffset;
+            this.message = message;
+            this.length = length;
+            this.maxDepth = maxDepth;
+        }
+        
+        public boolean isBalanced() {
+            return balanced;
+        }
+        
+        public long errorOffset() {
+            return errorOffset;
+        }
+        
+        public String message() {
+            return message;
+        }
+        
+        public long length() {
+            return length;
+        }
+        
+        public int maxDepth() {
+            return maxDepth;
+        }
+        
+        @Override
+        public String toString() {
+            return balanced ? "balanced (" + length + " chars, max depth " + maxDepth + ")"
+                    : "error at offset " + errorOffset + ": " + message;
+        }
+    }
+    
+    private final String pairs;         // Opening/closing pairs, e.g. "()[]{}"
+    private final boolean skipStrings;  // Ignore brackets inside "..." with \ escapes (JSON)
+    private final byte[] classOf = new byte[128];  // ASCII -> +type for openers, -type for closers, 0 otherwise
+    
+    // Incremental state
+    private byte[] stack = new byte[64];  // Open bracket types; unused when only one type is checked
+    private int depth;
+    private int maxDepth;
+    private long position;
+    private boolean inString;
+    private boolean escaped;
+    private long errorOffset = -1;
+    private String error;
+    
+    // Validates (), [] and {} like isBalancedParentheses
+    public StreamingBracketValidator() {
+        this("()[]{}", false);
+    }
+    
+    // pairs lists opening/closing characters, e.g. "()" or "()[]{}"; skipStrings for JSON
+    public StreamingBracketValidator(String pairs, boolean skipStrings) {
+        if (pairs.isEmpty() || pairs.length() % 2 != 0 || pairs.length() > 2 * 127) {
+            throw new IllegalArgumentException("Bracket pairs must be a non-empty even-length string: " + pairs);
+        }
+        for (int i = 0; i < pairs.length(); i += 2) {
+            char open = pairs.charAt(i);
+            char close = pairs.charAt(i + 1);
+            if (open >= 128 || close >= 128 || open == close || classOf[open] != 0 || classOf[close] != 0) {
+                throw new IllegalArgumentException("Bracket pairs must be distinct ASCII characters: " + pairs);
+            }
+            classOf[open] = (byte) (i / 2 + 1);
+            classOf[close] = (byte) -(i / 2 + 1);
+        }
+        this.pairs = pairs;
+        this.skipStrings = skipStrings;
+    }
+    
+    // JSON documents: all three bracket types, string contents ignored
+    public static StreamingBracketValidator forJson() {
+        return new StreamingBracketValidator("()[]{}", true);
+    }
+    
+    /**
+     * INCREMENTAL API - feed chunks, then call finish()
+     */
+    
+    // Process one character; returns false once an error has been found
+    private boolean accept(int ch) {
+        if (skipStrings) {
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+                position++;
+                return true;
+            }
+            if (ch == '"') {
+                inString = true;
+                position++;
+                return true;
+            }
+        }
+        int type = ch < 128 ? classOf[ch] : 0;  // Non-ASCII (including UTF-8 continuation bytes) is never a bracket
+        if (type > 0) {
+            if (pairs.length() > 2) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth] = (byte) type;
+            }
+            if (++depth > maxDepth) {
+                maxDepth = depth;
+            }
+        } else if (type < 0) {
+            if (depth == 0) {
+                return fail("Unexpected '" + (char) ch + "' with no open bracket");
+            }
+            depth--;
+            if (pairs.length() > 2 && stack[depth] != -type) {
+                return fail("Expected '" + pairs.charAt(2 * stack[depth] - 1) + "' but found '" + (char) ch + "'");
+            }
+        }
+        position++;
+        return true;
+    }
+    
+    private boolean fail(String message) {
+        errorOffset = position;
+        error = message;
+        return false;
+    }
+    
+    public StreamingBracketValidator update(char[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length && error == null; i++) {
+            accept(chunk[i]);
+        }
+        return this;
+    }
+    
+    // Bytes of an ASCII-compatible encoding (UTF-8, Latin-1); offsets are byte offsets
+    public StreamingBracketValidator update(byte[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length && error == null; i++) {
+            accept(chunk[i] & 0xFF);
+        }
+        return this;
+    }
+    
+    public StreamingBracketValidator update(CharSequence chunk) {
+        for (int i = 0; i < chunk.length() && error == null; i++) {
+            accept(chunk.charAt(i));
+        }
+        return this;
+    }
+    
+    // True once an error has been found (more input cannot fix it)
+    public boolean hasFailed() {
+        return error != null;
+    }
+    
+    public Result finish() {
+        if (error != null) {
+            return new Result(false, errorOffset, error, position, maxDepth);
+        }
+        if (inString) {
+            return new Result(false, position, "Unterminated string", position, maxDepth);
+        }
+        if (depth > 0) {
+            String innermost = pairs.length() > 2 ? "'" + pairs.charAt(2 * stack[depth - 1] - 2) + "'" : "'" + pairs.charAt(0) + "'";
+            return new Result(false, position, depth + " unclosed bracket(s), innermost " + innermost, position, maxDepth);
+        }
+        return new Result(true, -1, null, position, maxDepth);
+    }
+    
+    // Start over for a new document
+    public StreamingBracketValidator reset() {
+        depth = 0;
+        maxDepth = 0;
+        position = 0;
+        inString = false;
+        escaped = false;
+        errorOffset = -1;
+        error = null;
+        return this;
+    }
+    
+    /**
+     * ONE-SHOT API - read a whole source through a fixed-size buffer
+     */
+    
+    public Result validate(Reader in, int bufferSize) throws IOException {
+        reset();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while (error == null && (read = in.read(buffer)) != -1) {
+            update(buffer, 0, read);
+        }
+        return finish();
+    }
+    
+    public Result validate(ReadableByteChannel channel, int bufferSize) throws IOException {
+        reset();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        byte[] chunk = new byte[bufferSize];
+        while (error == null && channel.read(buffer) != -1) {
+            buffer.flip();
+            int length = buffer.remaining();
+            buffer.get(chunk, 0, length);
+            update(chunk, 0, length);
+            buffer.clear();
+        }
+        return finish();
+    }
+    
+    public Result validate(CharSequence text) {
+        return reset().update(text).finish();
+    }
+    
+    public Result validate(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return validate(channel, 1 << 16);
+        }
+    }
+    
+    /**
+     * PARALLEL - independent documents on separate threads, one validator each
+     */
+    
+    public static Result[] validateAll(List<Path> files, String pairs, boolean skipStrings) {
+        Result[] results = new Result[files.size()];
+        java.util.stream.IntStream.range(0, files.size()).parallel().forEach(i -> {
+            try {
+                results[i] = new StreamingBracketValidator(pairs, skipStrings).validate(files.get(i));
+            } catch (IOException e) {
+                results[i] = new Result(false, 0, "I/O error: " + e.getMessage(), 0, 0);
+            }
+        });
+        return results;
+    }
+    
+    public static Result[] validateAllText(List<? extends CharSequence> documents, String pairs, boolean skipStrings) {
+        Result[] results = new Result[documents.size()];
+        java.util.stream.IntStream.range(0, documents.size()).parallel().forEach(i ->
+                results[i] = new StreamingBracketValidator(pairs, skipStrings).validate(documents.get(i)));
+        return results;
+    }
+    
+    /**
+     * MAIN METHOD - Test against isBalancedParentheses and stream a large file
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Streaming Bracket Validator Demo ===\n");
+        
+        StreamingBracketValidator validator = new StreamingBracketValidator();
+        String[] expressions = {"(())", "({[]})", "({[}])", "(((", "Hello (World)", "a)b"};
+        for (String expr : expressions) {
+            System.out.println("'" + expr + "' -> " + validator.validate(expr)
+                    + " (isBalancedParentheses: " + StackImplementation.isBalancedParentheses(expr) + ")");
+        }
+        
+        // JSON: brackets inside strings don't count
+        String json = "{\"a\": [1, 2, {\"b\": \"not a bracket: ]\"}], \"c\": \"\\\"}\"}";
+        System.out.println("\nJSON " + json + " -> " + forJson().validate(new StringReader(json), 8));
+        
+        // Large generated document, streamed from disk through a 64 KB buffer
+        System.out.println("\n=== Large File ===");
+        Path file = Files.createTempFile("brackets", ".json");
+        try {
+            StringBuilder block = new StringBuilder();
+            for (int i = 0; i < 1000; i++) {
+                block.append("{\"id\": ").append(i).append(", \"tags\": [\"x\", \"y]\"], \"nested\": {\"v\": [[1], [2]]}},\n");
+            }
+            byte[] blockBytes = block.toString().getBytes(StandardCharsets.UTF_8);
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                out.write(ByteBuffer.wrap("[".getBytes(StandardCharsets.UTF_8)));
+                for (int i = 0; i < 1000; i++) {
+                    out.write(ByteBuffer.wrap(blockBytes));
+                }
+                out.write(ByteBuffer.wrap("{}]".getBytes(StandardCharsets.UTF_8)));
+            }
+            
+            long start = System.nanoTime();
+            Result result = forJson().validate(file);
+            long ms = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("%.1f MB -> %s in %d ms%n", Files.size(file) / 1e6, result, ms);
+            
+            // Truncate the closing ']' and validate the copies in parallel
+            Path broken = Files.createTempFile("brackets-broken", ".json");
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(broken, StandardOpenOption.WRITE)) {
+                in.transferTo(0, in.size() - 1, out);
+            }
+            Result[] results = validateAll(Arrays.asList(file, broken, file, broken), "()[]{}", true);
+            for (Result r : results) {
+                System.out.println("Parallel: " + r);
+            }
+            Files.delete(broken);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
+
+/*
+STREAMING BRACKET VALIDATOR KEY CONCEPTS:
+
+STREAMING:
+- State between chunks is just the bracket stack, a position and string flags
+- Input arrives through a fixed buffer - memory is O(max depth), not O(input)
+- Stops reading at the first error
+
+COMPACT STACK:
+- Only the bracket type matters: one byte per open bracket
+- With a single bracket type the type is implied: a depth counter is enough
+- 128-entry lookup table classifies each character in one array read
+
+ERROR OFFSETS:
+- Unexpected/mismatched closer: offset of that character
+- Unclosed opener or string: offset = input length (the error is "at EOF")
+- Byte channels report byte offsets (UTF-8 multi-byte sequences never contain
+  ASCII bytes, so bracket detection on raw bytes is safe)
+
+JSON MODE:
+- Brackets inside "..." are text; \" does not end a string
+
+PARALLELISM:
+- A bracket stack is inherently sequential within one document
+- Independent documents share nothing: one validator per document, parallel stream
+*/
\ No newline at end of file
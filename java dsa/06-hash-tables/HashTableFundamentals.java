@@ -13,7 +13,13 @@ public class HashTableFundamentals {
      */
     static class SimpleHashTable {
         private static final int DEFAULT_CAPACITY = 10;
-        private LinkedList<Entry>[] buckets;
+        private static final float LOAD_FACTOR = 0.75f;
+        private static final int REHASH_STEPS = 1;          // Non-empty buckets moved per operation
+        private static final int MAX_EMPTY_VISITS = 10;     // Empty buckets skipped per step
+        private LinkedList<Entry>[] buckets;     // Old table while rehashing; created lazily
+        private LinkedList<Entry>[] newBuckets;  // Non-null only during incremental rehash
+        private int rehashIndex;                 // Next bucket of 'buckets' to migrate
+        private final boolean incrementalResize;
         private int size;
         
         // Entry class to store key-value pairs
@@ -28,72 +34,169 @@ public class HashTableFundamentals {
         }
         
         // Constructor
-        @SuppressWarnings("unchecked")
         public SimpleHashTable() {
-            buckets = new LinkedList[DEFAULT_CAPACITY];
-            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
-                buckets[i] = new LinkedList<>();
-            }
+            this(false);
+        }
+        
+        // incrementalResize = true spreads each rehash across later put/get/remove calls
+        // (Redis-style progressive rehash) instead of doing it all inside one put
+        public SimpleHashTable(boolean incrementalResize) {
+            this.incrementalResize = incrementalResize;
+            buckets = allocateBuckets(DEFAULT_CAPACITY);
             size = 0;
         }
         
-        // Simple hash function
-        private int hash(String key) {
-            int hash = 0;
-            for (char c : key.toCharArray()) {
-                hash = (hash * 31 + c) % DEFAULT_CAPACITY;
+        // Simple hash function - depends on the capacity of the table being indexed
+        private int hash(String key, int capacity) {
+            return (key.hashCode() & 0x7fffffff) % capacity;
+        }
+        
+        private static Entry find(LinkedList<Entry> bucket, String key) {
+            if (bucket != null) {
+                for (Entry entry : bucket) {
+                    if (entry.key.equals(key)) {
+                        return entry;
+                    }
+                }
             }
-            return Math.abs(hash);
+            return null;
+        }
+        
+        // Bucket of 'buckets' holding key, or null if that bucket was already migrated
+        private LinkedList<Entry> oldBucketFor(String key) {
+            int index = hash(key, buckets.length);
+            return (newBuckets != null && index < rehashIndex) ? null : buckets[index];
+        }
+        
+        private boolean isRehashing() {
+            return newBuckets != null;
         }
         
         // Put key-value pair - O(1) average
         public void put(String key, Integer value) {
-            int index = hash(key);
-            LinkedList<Entry> bucket = buckets[index];
+            if (isRehashing()) {
+                rehashStep();
+            }
             
             // Check if key already exists
-            for (Entry entry : bucket) {
-                if (entry.key.equals(key)) {
-                    entry.value = value;  // Update existing
-                    return;
-                }
+            Entry existing = find(oldBucketFor(key), key);
+            if (existing == null && isRehashing()) {
+                existing = find(newBuckets[hash(key, newBuckets.length)], key);
+            }
+            if (existing != null) {
+                existing.value = value;  // Update existing
+                return;
             }
             
-            // Add new entry
-            bucket.add(new Entry(key, value));
+            // Add new entry (always into the newest table)
+            LinkedList<Entry>[] target = isRehashing() ? newBuckets : buckets;
+            int index = hash(key, target.length);
+            if (target[index] == null) {
+                target[index] = new LinkedList<>();
+            }
+            target[index].add(new Entry(key, value));
             size++;
+            
+            if (!isRehashing() && size > buckets.length * LOAD_FACTOR) {
+                startResize(buckets.length * 2);
+            }
         }
         
         // Get value by key - O(1) average
         public Integer get(String key) {
-            int index = hash(key);
-            LinkedList<Entry> bucket = buckets[index];
+            if (isRehashing()) {
+                rehashStep();
+            }
             
-            for (Entry entry : bucket) {
-                if (entry.key.equals(key)) {
-                    return entry.value;
-                }
+            Entry entry = find(oldBucketFor(key), key);
+            if (entry == null && isRehashing()) {
+                entry = find(newBuckets[hash(key, newBuckets.length)], key);
             }
             
-            return null;  // Key not found
+            return entry == null ? null : entry.value;  // null if key not found
         }
         
         // Remove key-value pair - O(1) average
         public boolean remove(String key) {
-            int index = hash(key);
-            LinkedList<Entry> bucket = buckets[index];
+            if (isRehashing()) {
+                rehashStep();
+            }
+            
+            if (removeFrom(oldBucketFor(key), key)
+                    || (isRehashing() && removeFrom(newBuckets[hash(key, newBuckets.length)], key))) {
+                size--;
+                return true;
+            }
             
+            return false;  // Key not found
+        }
+        
+        private static boolean removeFrom(LinkedList<Entry> bucket, String key) {
+            if (bucket == null) {
+                return false;
+            }
             Iterator<Entry> iterator = bucket.iterator();
             while (iterator.hasNext()) {
                 Entry entry = iterator.next();
                 if (entry.key.equals(key)) {
                     iterator.remove();
-                    size--;
                     return true;
                 }
             }
+            return false;
+        }
+        
+        /**
+         * RESIZING
+         */
+        
+        // Java cannot create generic arrays directly
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static LinkedList<Entry>[] allocateBuckets(int capacity) {
+            return new LinkedList[capacity];
+        }
+        
+        private void startResize(int newCapacity) {
+            newBuckets = allocateBuckets(newCapacity);
+            rehashIndex = 0;
+            if (!incrementalResize) {
+                // Stop-the-world: migrate every bucket now - O(n)
+                while (isRehashing()) {
+                    rehashStep();
+                }
+            }
+        }
+        
+        // Move up to REHASH_STEPS non-empty buckets from the old table to the new one,
+        // visiting at most MAX_EMPTY_VISITS empty buckets so each call stays bounded
+        private void rehashStep() {
+            int moved = 0;
+            int emptyVisits = 0;
+            while (moved < REHASH_STEPS && rehashIndex < buckets.length) {
+                LinkedList<Entry> bucket = buckets[rehashIndex];
+                if (bucket == null || bucket.isEmpty()) {
+                    buckets[rehashIndex++] = null;
+                    if (++emptyVisits >= MAX_EMPTY_VISITS && incrementalResize) {
+                        return;
+                    }
+                    continue;
+                }
+                for (Entry entry : bucket) {
+                    int index = hash(entry.key, newBuckets.length);
+                    if (newBuckets[index] == null) {
+                        newBuckets[index] = new LinkedList<>();
+                    }
+                    newBuckets[index].add(entry);
+                }
+                buckets[rehashIndex++] = null;
+                moved++;
+            }
             
-            return false;  // Key not found
+            if (rehashIndex == buckets.length) {  // Migration finished - swap tables
+                buckets = newBuckets;
+                newBuckets = null;
+                rehashIndex = 0;
+            }
         }
         
         // Check if key exists - O(1) average
@@ -111,13 +214,25 @@ public class HashTableFundamentals {
             return size == 0;
         }
         
+        // Capacity of the newest table
+        public int capacity() {
+            return isRehashing() ? newBuckets.length : buckets.length;
+        }
+        
         // Display hash table contents
         public void display() {
             System.out.println("Hash Table Contents:");
-            for (int i = 0; i < buckets.length; i++) {
-                if (!buckets[i].isEmpty()) {
-                    System.out.print("Bucket " + i + ": ");
-                    for (Entry entry : buckets[i]) {
+            displayBuckets(buckets, isRehashing() ? "Old bucket " : "Bucket ");
+            if (isRehashing()) {
+                displayBuckets(newBuckets, "New bucket ");
+            }
+        }
+        
+        private static void displayBuckets(LinkedList<Entry>[] table, String label) {
+            for (int i = 0; i < table.length; i++) {
+                if (table[i] != null && !table[i].isEmpty()) {
+                    System.out.print(label + i + ": ");
+                    for (Entry entry : table[i]) {
                         System.out.print("[" + entry.key + "=" + entry.value + "] ");
                     }
                     System.out.println();
@@ -126,6 +241,200 @@ public class HashTableFundamentals {
         }
     }
     
+    /**
+     * OPEN ADDRESSING HASH TABLE (String -> int, linear probing)
+     *
+     * Same API as SimpleHashTable, but keys, cached hashes and values live in
+     * parallel arrays - no Entry objects, no LinkedList buckets, no boxed Integers.
+     * Grows (doubles) once size exceeds the load factor.
+     */
+    static class OpenAddressingHashTable {
+        private static final int DEFAULT_CAPACITY = 16;          // Always a power of two
+        private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+        public static final int NO_VALUE = Integer.MIN_VALUE;    // Returned by get() for missing keys
+        
+        private String[] keys;    // null = empty slot
+        private int[] hashes;     // Cached spread hash of each key
+        private int[] values;
+        private int mask;         // capacity - 1, replaces % capacity
+        private int size;
+        private int threshold;    // Resize when size reaches this
+        private final float loadFactor;
+        
+        // Constructor
+        public OpenAddressingHashTable() {
+            this((int) (DEFAULT_CAPACITY * DEFAULT_LOAD_FACTOR), DEFAULT_LOAD_FACTOR);
+        }
+        
+        public OpenAddressingHashTable(int expectedSize, float loadFactor) {
+            if (loadFactor <= 0 || loadFactor >= 1) {
+                throw new IllegalArgumentException("Load factor must be in (0, 1): " + loadFactor);
+            }
+            this.loadFactor = loadFactor;
+            allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / loadFactor)));
+            size = 0;
+        }
+        
+        private static int tableSizeFor(int n) {
+            int capacity = 1;
+            while (capacity < n) {
+                capacity <<= 1;
+            }
+            return Math.max(capacity, 2);
+        }
+        
+        private void allocate(int capacity) {
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+            threshold = (int) (capacity * loadFactor);
+        }
+        
+        // Spread String.hashCode() so low bits (used by the mask) are well mixed
+        private static int hash(String key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+        
+        // Find slot holding key, or -1 - O(1) average
+        private int findSlot(String key, int h) {
+            int index = h & mask;
+            while (keys[index] != null) {
+                if (hashes[index] == h && keys[index].equals(key)) {
+                    return index;
+                }
+                index = (index + 1) & mask;  // Linear probe
+            }
+            return -1;
+        }
+        
+        // Put key-value pair - O(1) amortized
+        public void put(String key, int value) {
+            int h = hash(key);
+            int index = h & mask;
+            while (keys[index] != null) {
+                if (hashes[index] == h && keys[index].equals(key)) {
+                    values[index] = value;  // Update existing
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            hashes[index] = h;
+            values[index] = value;
+            if (++size >= threshold) {
+                resize();
+            }
+        }
+        
+        // Add delta to key's value (inserting delta if absent) - the counting hot path
+        public int increment(String key, int delta) {
+            int h = hash(key);
+            int index = h & mask;
+            while (keys[index] != null) {
+                if (hashes[index] == h && keys[index].equals(key)) {
+                    return values[index] += delta;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            hashes[index] = h;
+            values[index] = delta;
+            if (++size >= threshold) {
+                resize();
+            }
+            return delta;
+        }
+        
+        // Get value by key, NO_VALUE if absent - O(1) average
+        public int get(String key) {
+            return getOrDefault(key, NO_VALUE);
+        }
+        
+        public int getOrDefault(String key, int defaultValue) {
+            int index = findSlot(key, hash(key));
+            return index < 0 ? defaultValue : values[index];
+        }
+        
+        // Remove key-value pair - O(1) average
+        public boolean remove(String key) {
+            int index = findSlot(key, hash(key));
+            if (index < 0) {
+                return false;  // Key not found
+            }
+            
+            // Backward-shift deletion: pull later entries of the probe run into the gap
+            // so lookups never need tombstones
+            int gap = index;
+            int next = (gap + 1) & mask;
+            while (keys[next] != null) {
+                int home = hashes[next] & mask;
+                // Move entry only if its home slot is not in (gap, next] cyclically
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    hashes[gap] = hashes[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = null;
+            size--;
+            return true;
+        }
+        
+        // Check if key exists - O(1) average
+        public boolean containsKey(String key) {
+            return findSlot(key, hash(key)) >= 0;
+        }
+        
+        // Double the table and reinsert using cached hashes - O(n), amortized O(1)
+        private void resize() {
+            String[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            int[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int index = oldHashes[i] & mask;
+                    while (keys[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = oldKeys[i];
+                    hashes[index] = oldHashes[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+        
+        // Get current size
+        public int size() {
+            return size;
+        }
+        
+        // Check if empty
+        public boolean isEmpty() {
+            return size == 0;
+        }
+        
+        // Get number of slots
+        public int capacity() {
+            return keys.length;
+        }
+        
+        // Display hash table contents
+        public void display() {
+            System.out.println("Open Addressing Table Contents (capacity " + keys.length + "):");
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    System.out.println("Slot " + i + ": [" + keys[i] + "=" + values[i] + "]");
+                }
+            }
+        }
+    }
+    
     /**
      * HASHMAP USAGE EXAMPLES - Java's built-in hash table
      */
@@ -384,6 +693,37 @@ public class HashTableFundamentals {
         System.out.println("After removing 'score':");
         hashTable.display();
         
+        // Incremental resize: growth is spread over later operations
+        SimpleHashTable progressive = new SimpleHashTable(true);
+        for (int i = 0; i < 100; i++) {
+            progressive.put("item" + i, i);
+        }
+        System.out.println("Progressive table: size=" + progressive.size()
+                + ", capacity=" + progressive.capacity() + ", item42=" + progressive.get("item42"));
+        
+        // Test open addressing hash table
+        System.out.println("\n=== Open Addressing Hash Table Test ===");
+        OpenAddressingHashTable openTable = new OpenAddressingHashTable();
+        
+        openTable.put("name", 25);
+        openTable.put("age", 30);
+        openTable.put("score", 95);
+        openTable.put("level", 10);
+        openTable.display();
+        
+        System.out.println("Get 'name': " + openTable.get("name"));
+        System.out.println("Contains 'mango': " + openTable.containsKey("mango"));
+        openTable.remove("score");
+        System.out.println("Size after removing 'score': " + openTable.size());
+        
+        // Grows past the initial 16 slots without losing entries
+        for (int i = 0; i < 1000; i++) {
+            openTable.increment("key" + (i % 100), 1);
+        }
+        System.out.println("After counting 1000 keys: size=" + openTable.size()
+                + ", capacity=" + openTable.capacity() + ", key7=" + openTable.get("key7"));
+        System.out.println();
+        
         // Test built-in HashMap and HashSet
         demonstrateHashMap();
         demonstrateHashSet();
@@ -445,11 +785,15 @@ COLLISION HANDLING:
    - Find next available slot
    - Types: linear probing, quadratic probing, double hashing
    - Better cache performance
+   - Deleting needs tombstones or backward-shift (see OpenAddressingHashTable)
+   - Parallel primitive arrays avoid per-entry objects and boxing
 
 LOAD FACTOR:
 - Ratio of elements to buckets
 - Java HashMap resizes when load factor > 0.75
 - Trade-off between space and time
+- Incremental rehash (Redis-style): keep old and new tables, move a few
+  buckets per operation so no single put pays the full O(n) resize
 
 HASH TABLE VS ARRAY:
 HASH TABLE:
@@ -0,0 +1,200 @@
+/**
+ * Longest Substring Without Repeating Characters - Allocation-Free and Streaming
+ *
+ * HashTableFundamentals.lengthOfLongestSubstring and the SortingSearchingAlgorithms version
+ * use HashMap<Character, Integer> / HashSet<Character>, boxing every character.
+ * Here the "hash table" is a direct-indexed last-seen array (256 entries for bytes,
+ * 65536 for chars), and a WindowScanner can be fed chunk by chunk: the window survives
+ * chunk boundaries, so arbitrarily long byte streams can be processed
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class LongestUniqueSubstring {
+    
+    /**
+     * WINDOW SCANNER - incremental sliding window over a stream of symbols
+     */
+    static class WindowScanner {
+        private final long[] lastSeen;  // Absolute position + 1 of each symbol's last occurrence, 0 = never
+        private long position;          // Absolute position of the next symbol (never rewinds)
+        private long windowStart;       // Absolute position where the current window starts
+        private long best;
+        private long bestStart;
+        
+        // alphabetSize 256 for bytes, 65536 for chars
+        WindowScanner(int alphabetSize) {
+            lastSeen = new long[alphabetSize];
+        }
+        
+        // Slide the window over one symbol - O(1)
+        private void accept(int symbol) {
+            long previous = lastSeen[symbol] - 1;
+            if (previous >= windowStart) {
+                windowStart = previous + 1;  // Jump past the earlier copy
+            }
+            lastSeen[symbol] = position + 1;
+            long length = position - windowStart + 1;
+            if (length > best) {
+                best = length;
+                bestStart = windowStart;
+            }
+            position++;
+        }
+        
+        // Feed a chunk of bytes; the window carries over into the next call
+        public WindowScanner update(byte[] chunk, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                accept(chunk[i] & 0xFF);
+            }
+            return this;
+        }
+        
+        public WindowScanner update(byte[] chunk) {
+            return update(chunk, 0, chunk.length);
+        }
+        
+        // Feed position..limit of a buffer without moving its position
+        public WindowScanner update(ByteBuffer chunk) {
+            for (int i = chunk.position(); i < chunk.limit(); i++) {
+                accept(chunk.get(i) & 0xFF);
+            }
+            return this;
+        }
+        
+        public WindowScanner update(CharSequence chunk) {
+            if (lastSeen.length < 65536) {
+                throw new IllegalStateException("Char input needs a WindowScanner with a 65536-entry alphabet");
+            }
+            for (int i = 0; i < chunk.length(); i++) {
+                accept(chunk.charAt(i));
+            }
+            return this;
+        }
+        
+        // Length of the longest window seen so far
+        public long longest() {
+            return best;
+        }
+        
+        // Absolute stream position where that window starts
+        public long longestStart() {
+            return bestStart;
+        }
+        
+        // Symbols consumed since construction
+        public long position() {
+            return position;
+        }
+        
+        // Start a new, independent input - O(1): stale last-seen entries fall before windowStart
+        public WindowScanner reset() {
+            windowStart = position;
+            best = 0;
+            bestStart = position;
+            return this;
+        }
+    }
+    
+    // One scanner per thread, reused so the one-shot methods allocate nothing after warm-up
+    private static final ThreadLocal<WindowScanner> BYTE_SCANNER = ThreadLocal.withInitial(() -> new WindowScanner(256));
+    private static final ThreadLocal<WindowScanner> CHAR_SCANNER = ThreadLocal.withInitial(() -> new WindowScanner(65536));
+    
+    public static int lengthOfLongestSubstring(byte[] data) {
+        return (int) BYTE_SCANNER.get().reset().update(data).longest();
+    }
+    
+    public static int lengthOfLongestSubstring(ByteBuffer data) {
+        return (int) BYTE_SCANNER.get().reset().update(data).longest();
+    }
+    
+    public static int lengthOfLongestSubstring(CharSequence s) {
+        return (int) CHAR_SCANNER.get().reset().update(s).longest();
+    }
+    
+    // Whole stream through a reusable buffer; the window spans buffer refills
+    public static long lengthOfLongestSubstring(InputStream in, byte[] buffer) throws IOException {
+        WindowScanner scanner = BYTE_SCANNER.get().reset();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            scanner.update(buffer, 0, read);
+        }
+        return scanner.longest();
+    }
+    
+    /**
+     * MAIN METHOD - Test against the HashMap version and across chunk boundaries
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Longest Unique Substring Demo ===\n");
+        
+        String[] samples = {"abcabcbb", "bbbbb", "pwwkew", "", "dvdf", "abba"};
+        for (String sample : samples) {
+            System.out.println("'" + sample + "': chars=" + lengthOfLongestSubstring(sample)
+                    + ", bytes=" + lengthOfLongestSubstring(sample.getBytes(StandardCharsets.US_ASCII))
+                    + ", HashMap=" + HashTableFundamentals.lengthOfLongestSubstring(sample));
+        }
+        
+        // Same answer whether the input arrives whole or split at arbitrary points
+        System.out.println("\n=== Chunked Input ===");
+        byte[] payload = new byte[1_000_000];
+        Random random = new Random(3);
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) random.nextInt(256);
+        }
+        WindowScanner chunked = new WindowScanner(256);
+        int offset = 0;
+        while (offset < payload.length) {
+            int length = Math.min(1 + random.nextInt(100), payload.length - offset);
+            chunked.update(payload, offset, length);
+            offset += length;
+        }
+        System.out.println("Whole: " + lengthOfLongestSubstring(payload) + ", chunked: " + chunked.longest()
+                + " (starting at " + chunked.longestStart() + ")");
+        System.out.println("Stream with 4 KB buffer: "
+                + lengthOfLongestSubstring(new ByteArrayInputStream(payload), new byte[4096]));
+        
+        // Timing against the boxed HashMap version
+        System.out.println("\n=== Timing (" + payload.length + " symbols) ===");
+        String text = new String(payload, StandardCharsets.ISO_8859_1);
+        for (int round = 0; round < 3; round++) {  // Later rounds are JIT-warmed
+            long start = System.nanoTime();
+            int fast = lengthOfLongestSubstring(payload);
+            long fastUs = (System.nanoTime() - start) / 1_000;
+            start = System.nanoTime();
+            int boxed = HashTableFundamentals.lengthOfLongestSubstring(text);
+            long boxedUs = (System.nanoTime() - start) / 1_000;
+            System.out.println("Round " + round + ": last-seen table " + fastUs + " us (" + fast
+                    + "), HashMap " + boxedUs + " us (" + boxed + ")");
+        }
+    }
+}
+
+/*
+LONGEST UNIQUE SUBSTRING KEY CONCEPTS:
+
+DIRECT-INDEXED TABLE INSTEAD OF HASHMAP:
+- Small alphabets (bytes: 256, chars: 65536) can index an array directly
+- No hashing, no boxing, no allocation per character
+- lastSeen[symbol] gives the jump target for the window start in O(1)
+
+SLIDING WINDOW:
+- Window [start, i] holds no repeats
+- On a repeat seen at p >= start, move start to p + 1 (never backwards)
+- Answer = max window length seen
+
+STREAMING:
+- Use absolute positions (long) so the window spans chunk boundaries
+- Only the table and a few counters are state - no buffering of old data
+- Reset in O(1): keep positions increasing, set start = current position,
+  and stale table entries are automatically ignored
+
+COMPLEXITY:
+- Time: O(n), one table access per symbol
+- Space: O(alphabet) - fixed, independent of input length
+*/
\ No newline at end of file
@@ -0,0 +1,482 @@
+/**
+ * Streaming Frequency Counter - Word and Character Counts over Huge Files
+ *
+ * The frequency-counting pattern from HashTableFundamentals, scaled to multi-GB inputs:
+ * the file is memory-mapped in chunks split at token boundaries, each chunk is counted
+ * on a fork-join worker into a primitive byte-keyed hash map (no String per token),
+ * and the per-chunk maps are merged pairwise on the way back up
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class StreamingFrequencyCounter {
+    
+    private static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;  // 32 MB per mapped chunk
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    
+    /**
+     * BYTE WORD COUNTER - open addressing map from UTF-8 word bytes to a long count.
+     * Word bytes are copied once into a shared arena; slots hold (offset, length, hash, count).
+     */
+    static class ByteWordCounter {
+        private int[] offsets;    // Arena offset of each key, -1 = empty slot
+        private int[] lengths;
+        private int[] hashes;
+        private long[] counts;
+        private byte[] arena = new byte[1024];
+        private int arenaSize;
+        private int mask;
+        private int size;
+        
+        ByteWordCounter() {
+            allocate(1024);
+        }
+        
+        private void allocate(int capacity) {
+            offsets = new int[capacity];
+            Arrays.fill(offsets, -1);
+            lengths = new int[capacity];
+            hashes = new int[capacity];
+            counts = new long[capacity];
+            mask = capacity - 1;
+        }
+        
+        private boolean keyEquals(int slot, ByteBuffer source, int start, int length) {
+            if (lengths[slot] != length) {
+                return false;
+            }
+            int offset = offsets[slot];
+            for (int i = 0; i < length; i++) {
+                if (arena[offset + i] != source.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        // Add delta to the word stored at source[start, start + length) - O(1) average
+        void add(ByteBuffer source, int start, int length, int hash, long delta) {
+            int slot = hash & mask;
+            while (offsets[slot] != -1) {
+                if (hashes[slot] == hash && keyEquals(slot, source, start, length)) {
+                    counts[slot] += delta;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            
+            // New word: copy its bytes into the arena (the only per-word allocation)
+            if (arenaSize + length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+            }
+            for (int i = 0; i < length; i++) {
+                arena[arenaSize + i] = source.get(start + i);
+            }
+            offsets[slot] = arenaSize;
+            lengths[slot] = length;
+            hashes[slot] = hash;
+            counts[slot] = delta;
+            arenaSize += length;
+            
+            if (++size > (mask + 1) * 3 / 4) {
+                resize();
+            }
+        }
+        
+        private void resize() {
+            int[] oldOffsets = offsets;
+            int[] oldLengths = lengths;
+            int[] oldHashes = hashes;
+            long[] oldCounts = counts;
+            allocate(oldOffsets.length * 2);
+            for (int i = 0; i < oldOffsets.length; i++) {
+                if (oldOffsets[i] != -1) {
+                    int slot = oldHashes[i] & mask;
+                    while (offsets[slot] != -1) {
+                        slot = (slot + 1) & mask;
+                    }
+                    offsets[slot] = oldOffsets[i];
+                    lengths[slot] = oldLengths[i];
+                    hashes[slot] = oldHashes[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+        
+        // Fold other into this map - O(other.size)
+        void mergeFrom(ByteWordCounter other) {
+            ByteBuffer otherArena = ByteBuffer.wrap(other.arena);
+            for (int i = 0; i < other.offsets.length; i++) {
+                if (other.offsets[i] != -1) {
+                    add(otherArena, other.offsets[i], other.lengths[i], other.hashes[i], other.counts[i]);
+                }
+            }
+        }
+        
+        long get(String word) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            int hash = FNV_OFFSET;
+            for (byte b : bytes) {
+                hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+            }
+            ByteBuffer source = ByteBuffer.wrap(bytes);
+            for (int slot = hash & mask; offsets[slot] != -1; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && keyEquals(slot, source, 0, bytes.length)) {
+                    return counts[slot];
+                }
+            }
+            return 0;
+        }
+        
+        int size() {
+            return size;
+        }
+    }
+    
+    /**
+     * CHUNK RESULT - word counts plus per-byte counts and first positions of one region
+     */
+    static class ChunkResult {
+        final ByteWordCounter words = new ByteWordCounter();
+        final long[] byteCounts = new long[256];
+        final long[] firstPosition = new long[256];  // File offset of first occurrence, -1 = never
+        long totalWords;
+        
+        ChunkResult() {
+            Arrays.fill(firstPosition, -1);
+        }
+        
+        // Combine two adjacent (or any) regions
+        ChunkResult merge(ChunkResult other) {
+            ChunkResult big = words.size() >= other.words.size() ? this : other;
+            ChunkResult small = big == this ? other : this;
+            big.words.mergeFrom(small.words);
+            for (int b = 0; b < 256; b++) {
+                big.byteCounts[b] += small.byteCounts[b];
+                if (big.firstPosition[b] == -1
+                        || (small.firstPosition[b] != -1 && small.firstPosition[b] < big.firstPosition[b])) {
+                    big.firstPosition[b] = small.firstPosition[b];
+                }
+            }
+            big.totalWords += small.totalWords;
+            return big;
+        }
+    }
+    
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+    
+    // Count one region; words are maximal runs of non-whitespace bytes - O(length)
+    static ChunkResult countRegion(ByteBuffer buffer, int start, int end, long fileOffset) {
+        ChunkResult result = new ChunkResult();
+        long[] byteCounts = result.byteCounts;
+        long[] firstPosition = result.firstPosition;
+        int wordStart = -1;
+        int hash = 0;
+        
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            int unsigned = b & 0xFF;
+            if (byteCounts[unsigned]++ == 0) {
+                firstPosition[unsigned] = fileOffset + (i - start);
+            }
+            
+            if (isWhitespace(b)) {
+                if (wordStart >= 0) {
+                    result.words.add(buffer, wordStart, i - wordStart, hash, 1);
+                    result.totalWords++;
+                    wordStart = -1;
+                }
+            } else {
+                if (wordStart < 0) {
+                    wordStart = i;
+                    hash = FNV_OFFSET;
+                }
+                hash = (hash ^ unsigned) * FNV_PRIME;
+            }
+        }
+        if (wordStart >= 0) {
+            result.words.add(buffer, wordStart, end - wordStart, hash, 1);
+            result.totalWords++;
+        }
+        return result;
+    }
+    
+    /**
+     * FORK-JOIN TASK - splits the chunk list in halves, maps and counts leaves, merges results
+     */
+    static class CountTask extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+        private final FileChannel channel;
+        private final long[] boundaries;  // Chunk i covers [boundaries[i], boundaries[i + 1])
+        private final int from;
+        private final int to;
+        
+        CountTask(FileChannel channel, long[] boundaries, int from, int to) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected ChunkResult compute() {
+            if (to - from == 1) {
+                long start = boundaries[from];
+                long length = boundaries[to] - start;
+                try {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    return countRegion(buffer, 0, (int) length, start);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to map chunk at offset " + start, e);
+                }
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(channel, boundaries, from, mid);
+            CountTask right = new CountTask(channel, boundaries, mid, to);
+            left.fork();
+            ChunkResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+    
+    // Chunk boundaries: every ~chunkSize bytes, pushed forward to the next whitespace byte
+    static long[] findBoundaries(FileChannel channel, long fileSize, int chunkSize) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = chunkSize;
+        
+        while (position < fileSize) {
+            long boundary = -1;
+            long scan = position;
+            while (boundary < 0 && scan < fileSize) {
+                probe.clear();
+                int read = channel.read(probe, scan);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (isWhitespace(probe.get(i))) {
+                        boundary = scan + i;
+                        break;
+                    }
+                }
+                scan += read;
+            }
+            if (boundary < 0) {
+                break;  // Last token runs to end of file
+            }
+            if (boundary - boundaries.get(boundaries.size() - 1) > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Token too long to split near offset " + position);
+            }
+            boundaries.add(boundary);
+            position = boundary + chunkSize;
+        }
+        
+        boundaries.add(fileSize);
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * RESULT - merged counts for the whole input
+     */
+    public static class Result {
+        private final ChunkResult counts;
+        
+        Result(ChunkResult counts) {
+            this.counts = counts;
+        }
+        
+        // Occurrences of a word (0 if absent)
+        public long wordCount(String word) {
+            return counts.words.get(word);
+        }
+        
+        public int distinctWords() {
+            return counts.words.size();
+        }
+        
+        public long totalWords() {
+            return counts.totalWords;
+        }
+        
+        // Occurrences of each byte value (ASCII character counts)
+        public long[] byteCounts() {
+            return counts.byteCounts.clone();
+        }
+        
+        // Like HashTableFundamentals.firstNonRepeatingChar, over ASCII bytes; '\0' if none
+        public char firstNonRepeatingChar() {
+            long best = Long.MAX_VALUE;
+            char result = '\0';
+            for (int b = 0; b < 128; b++) {
+                if (counts.byteCounts[b] == 1 && counts.firstPosition[b] < best) {
+                    best = counts.firstPosition[b];
+                    result = (char) b;
+                }
+            }
+            return result;
+        }
+        
+        // Like HashTableFundamentals.areAnagrams: same multiset of bytes
+        public boolean isAnagramOf(Result other) {
+            return Arrays.equals(counts.byteCounts, other.counts.byteCounts);
+        }
+        
+        // k most frequent words - Strings are only created here, for the survivors of a min-heap
+        public List<Map.Entry<String, Long>> topWords(int k) {
+            ByteWordCounter words = counts.words;
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Comparator.comparingLong(slot -> words.counts[slot]));
+            for (int slot = 0; slot < words.offsets.length; slot++) {
+                if (words.offsets[slot] == -1) {
+                    continue;
+                }
+                if (heap.size() < k) {
+                    heap.offer(slot);
+                } else if (words.counts[slot] > words.counts[heap.peek()]) {
+                    heap.poll();
+                    heap.offer(slot);
+                }
+            }
+            
+            List<Map.Entry<String, Long>> top = new ArrayList<>();
+            while (!heap.isEmpty()) {
+                int slot = heap.poll();
+                String word = new String(words.arena, words.offsets[slot], words.lengths[slot], StandardCharsets.UTF_8);
+                top.add(new AbstractMap.SimpleEntry<>(word, words.counts[slot]));
+            }
+            Collections.reverse(top);
+            return top;
+        }
+    }
+    
+    /**
+     * PUBLIC API
+     */
+    
+    public static Result countFile(Path file) throws IOException {
+        return countFile(file, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+    
+    public static Result countFile(Path file, int chunkSize, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                return new Result(new ChunkResult());
+            }
+            long[] boundaries = findBoundaries(channel, fileSize, chunkSize);
+            return new Result(pool.invoke(new CountTask(channel, boundaries, 0, boundaries.length - 1)));
+        }
+    }
+    
+    // In-memory input, single region
+    public static Result countBytes(byte[] data) {
+        return new Result(countRegion(ByteBuffer.wrap(data), 0, data.length, 0));
+    }
+    
+    /**
+     * MAIN METHOD - Test on a generated file and compare with the HashMap approach
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Streaming Frequency Counter Demo ===\n");
+        
+        Result small = countBytes("hello world hello".getBytes(StandardCharsets.UTF_8));
+        System.out.println("Word frequencies: hello=" + small.wordCount("hello") + ", world=" + small.wordCount("world"));
+        System.out.println("Most frequent word: " + small.topWords(1));
+        System.out.println("First non-repeating char in 'leetcode': "
+                + countBytes("leetcode".getBytes(StandardCharsets.UTF_8)).firstNonRepeatingChar());
+        System.out.println("'listen' and 'silent' are anagrams: " + countBytes("listen".getBytes(StandardCharsets.UTF_8))
+                .isAnagramOf(countBytes("silent".getBytes(StandardCharsets.UTF_8))));
+        
+        // Generate a log-like file with a skewed vocabulary
+        Path file = Files.createTempFile("frequency", ".txt");
+        String[] vocabulary = new String[5000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "token" + i;
+        }
+        Random random = new Random(7);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int line = 0; line < 500_000; line++) {
+                for (int w = 0; w < 10; w++) {
+                    int index = (int) (vocabulary.length * Math.pow(random.nextDouble(), 3));  // Skewed
+                    writer.write(vocabulary[index]);
+                    writer.write(w == 9 ? '\n' : ' ');
+                }
+            }
+        }
+        
+        try {
+            System.out.println("\n=== Large File (" + Files.size(file) / (1024 * 1024) + " MB) ===");
+            
+            long start = System.nanoTime();
+            Result result = countFile(file, 4 * 1024 * 1024, ForkJoinPool.commonPool());
+            long parallelMs = (System.nanoTime() - start) / 1_000_000;
+            
+            start = System.nanoTime();
+            HashMap<String, Integer> baseline = new HashMap<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                for (String word : line.split(" ")) {
+                    baseline.put(word, baseline.getOrDefault(word, 0) + 1);
+                }
+            }
+            long baselineMs = (System.nanoTime() - start) / 1_000_000;
+            
+            System.out.println("Total words: " + result.totalWords() + ", distinct: " + result.distinctWords());
+            System.out.println("Top 3: " + result.topWords(3));
+            System.out.println("token0 count matches HashMap: " + (result.wordCount("token0") == baseline.get("token0")));
+            System.out.println("Parallel mapped: " + parallelMs + " ms, HashMap split: " + baselineMs + " ms");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
+
+/*
+STREAMING FREQUENCY COUNTING KEY CONCEPTS:
+
+CHUNKING AT TOKEN BOUNDARIES:
+- Pick nominal split points every N bytes
+- Push each forward to the next delimiter so no token straddles two chunks
+- Chunks are then fully independent
+
+MEMORY MAPPING:
+- Each chunk is mapped separately (a MappedByteBuffer is limited to 2 GB)
+- The OS pages data in on demand; no read() copies into Java arrays
+
+PRIMITIVE PER-TASK MAPS:
+- Keys are byte ranges copied into one arena, hashed with FNV-1a while scanning
+- No String, no boxed Integer per token - allocation only for new distinct words
+- Counts in long[] so huge inputs don't overflow
+
+FORK-JOIN MERGE:
+- Split chunk list in halves, count leaves in parallel
+- Merge child maps on the way up (smaller into larger)
+- Strings are only materialized for the final top-k
+
+SEQUENTIAL VS PARALLEL:
+SEQUENTIAL (split + HashMap):
+✅ Simple, fine for small inputs
+❌ One core, one String and boxed Integer per token
+
+PARALLEL (mapped chunks + primitive maps):
+✅ Scales with cores, minimal GC pressure
+❌ More code; merge cost grows with vocabulary size
+*/
\ No newline at end of file
@@ -0,0 +1,433 @@
+/**
+ * Swiss Table - Group-Probed Open Addressing Hash Table
+ *
+ * Google's SwissTable layout: one control byte per slot holding 7 bits of the hash,
+ * so a whole group of 16 slots is filtered with a single vector compare before any
+ * key is touched. Same put/get/remove/containsKey/size API as the other tables here.
+ *
+ * Groups are matched with SWAR (8 control bytes per long) by default. An optional
+ * SIMD matcher on the incubating Vector API lives in simd/SwissSimdGroup.java (see
+ * there to build it); it is loaded only when jdk.incubator.vector is present.
+ *
+ * Measured on JDK 17 (benchmark below, 2^18 slots), this table does not beat HashMap:
+ * - the SIMD probe is slower than SWAR: about 80-116 vs 42-49 ns per hit at load 0.5
+ *   and 140 vs 60 ns at 0.875
+ * - misses are far slower: 130 ns (SWAR) and 240 ns (SIMD) vs 17 ns for HashMap at 0.875.
+ *   A miss probes ~1.9 groups at 0.875 (~1.0 at 0.5) and each group probe costs more
+ *   than HashMap's one null check on its table slot
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.*;
+
+public class SwissHashTable {
+    
+    public static final int NO_VALUE = Integer.MIN_VALUE;  // Returned by get() for missing keys
+    
+    private static final int GROUP_SIZE = 16;
+    private static final byte EMPTY = (byte) 0x80;    // 1000 0000
+    private static final byte DELETED = (byte) 0xFE;  // 1111 1110 (tombstone)
+    // FULL slots hold 0xxx xxxx: the low 7 bits of the hash (h2)
+    
+    // SIMD matcher, or null without the Vector API module or the compiled simd class
+    private static final GroupMatcher SIMD = loadSimdMatcher();
+    public static final boolean VECTOR_AVAILABLE = SIMD != null;
+    
+    private byte[] ctrl;      // One control byte per slot
+    private String[] keys;
+    private int[] values;
+    private int groupMask;    // groups - 1
+    private int size;
+    private int growthLeft;   // EMPTY slots we may still fill before rehashing (max load 7/8)
+    private final boolean useVector;
+    
+    // Group matching: 16-bit masks, bit i set = slot (base + i) matches
+    interface GroupMatcher {
+        int match(byte[] ctrl, int base, byte value);
+        int matchEmpty(byte[] ctrl, int base);
+        int matchEmptyOrDeleted(byte[] ctrl, int base);
+    }
+    
+    // Loaded by name so this file compiles without --add-modules jdk.incubator.vector
+    private static GroupMatcher loadSimdMatcher() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (GroupMatcher) Class.forName("SwissSimdGroup").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;  // simd/SwissSimdGroup.java not compiled
+        }
+    }
+    
+    // Default matcher: SWAR ("SIMD within a register") on two 8-byte words per group
+    static class SwarMatcher {
+        private static final VarHandle LONGS =
+                MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final long LSB = 0x0101010101010101L;
+        private static final long MSB = 0x8080808080808080L;
+        
+        // Gather the high bit of each byte into an 8-bit mask
+        private static int compact(long highBits) {
+            return (int) (((highBits >>> 7) * 0x0102040810204080L) >>> 56);
+        }
+        
+        // Bytes equal to value; may report a false positive just above a true match,
+        // which is harmless because candidates are confirmed by comparing keys
+        private static long matchWord(long word, byte value) {
+            long x = word ^ (LSB * (value & 0xFF));
+            return (x - LSB) & ~x & MSB;
+        }
+        
+        static int match(byte[] ctrl, int base, byte value) {
+            return compact(matchWord((long) LONGS.get(ctrl, base), value))
+                    | compact(matchWord((long) LONGS.get(ctrl, base + 8), value)) << 8;
+        }
+        
+        // Exact: high bit set and bit 1 clear is EMPTY only (DELETED has bit 1 set)
+        static int matchEmpty(byte[] ctrl, int base) {
+            long lo = (long) LONGS.get(ctrl, base);
+            long hi = (long) LONGS.get(ctrl, base + 8);
+            return compact(lo & ~(lo << 6) & MSB) | compact(hi & ~(hi << 6) & MSB) << 8;
+        }
+        
+        // Exact: EMPTY and DELETED are the only control bytes with the high bit set
+        static int matchEmptyOrDeleted(byte[] ctrl, int base) {
+            return compact((long) LONGS.get(ctrl, base) & MSB)
+                    | compact((long) LONGS.get(ctrl, base + 8) & MSB) << 8;
+        }
+    }
+    
+    // Constructor - SWAR matching, faster than the SIMD path on JDK 17
+    public SwissHashTable() {
+        this(14, false);
+    }
+    
+    // Sized so expectedSize keys fit without rehashing
+    public SwissHashTable(int expectedSize, boolean useVector) {
+        if (useVector && !VECTOR_AVAILABLE) {
+            throw new IllegalStateException("Compile simd/SwissSimdGroup.java and run with --add-modules jdk.incubator.vector to use the SIMD path");
+        }
+        this.useVector = useVector;
+        int groups = 1;
+        while ((long) groups * GROUP_SIZE * 7 / 8 < expectedSize) {
+            groups <<= 1;
+        }
+        allocate(groups);
+    }
+    
+    private void allocate(int groups) {
+        int capacity = groups * GROUP_SIZE;
+        ctrl = new byte[capacity];
+        Arrays.fill(ctrl, EMPTY);
+        keys = new String[capacity];
+        values = new int[capacity];
+        groupMask = groups - 1;
+        size = 0;
+        growthLeft = capacity * 7 / 8;
+    }
+    
+    // Spread String.hashCode(): low 7 bits -> control byte (h2), rest -> group (h1)
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+    
+    private static byte h2(int hash) {
+        return (byte) (hash & 0x7F);
+    }
+    
+    private int firstGroup(int hash) {
+        return (hash >>> 7) & groupMask;
+    }
+    
+    /**
+     * GROUP MATCHING - 16-bit masks, bit i set = slot (base + i) matches
+     */
+    
+    // Candidate slots whose control byte equals the h2 tag
+    private int match(int base, byte tag) {
+        return useVector ? SIMD.match(ctrl, base, tag) : SwarMatcher.match(ctrl, base, tag);
+    }
+    
+    private int matchEmpty(int base) {
+        return useVector ? SIMD.matchEmpty(ctrl, base) : SwarMatcher.matchEmpty(ctrl, base);
+    }
+    
+    private int matchEmptyOrDeleted(int base) {
+        return useVector ? SIMD.matchEmptyOrDeleted(ctrl, base) : SwarMatcher.matchEmptyOrDeleted(ctrl, base);
+    }
+    
+    // Find slot holding key, or -1 - O(1) average
+    private int findSlot(String key, int hash) {
+        byte tag = h2(hash);
+        int group = firstGroup(hash);
+        for (int step = 1; ; step++) {
+            int base = group * GROUP_SIZE;
+            for (int m = match(base, tag); m != 0; m &= m - 1) {
+                int slot = base + Integer.numberOfTrailingZeros(m);
+                if (keys[slot].equals(key)) {
+                    return slot;
+                }
+            }
+            // An EMPTY slot ends the probe: the key would have been placed here
+            if (matchEmpty(base) != 0) {
+                return -1;
+            }
+            group = (group + step) & groupMask;  // Triangular probing visits every group
+        }
+    }
+    
+    // First EMPTY or DELETED slot on the key's probe sequence
+    private int findInsertSlot(int hash) {
+        int group = firstGroup(hash);
+        for (int step = 1; ; step++) {
+            int base = group * GROUP_SIZE;
+            int m = matchEmptyOrDeleted(base);
+            if (m != 0) {
+                return base + Integer.numberOfTrailingZeros(m);
+            }
+            group = (group + step) & groupMask;
+        }
+    }
+    
+    /**
+     * HASH TABLE OPERATIONS
+     */
+    
+    // Put key-value pair - O(1) amortized
+    public void put(String key, int value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            values[slot] = value;  // Update existing
+            return;
+        }
+        
+        if (growthLeft == 0) {
+            rehash();
+        }
+        slot = findInsertSlot(hash);
+        if (ctrl[slot] == EMPTY) {
+            growthLeft--;  // Reusing a tombstone doesn't consume growth
+        }
+        ctrl[slot] = h2(hash);
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+    
+    // Get value by key, NO_VALUE if absent - O(1) average
+    public int get(String key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+    
+    public int getOrDefault(String key, int defaultValue) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? defaultValue : values[slot];
+    }
+    
+    // Remove key-value pair - O(1) average
+    public boolean remove(String key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return false;  // Key not found
+        }
+        keys[slot] = null;
+        size--;
+        
+        // If the group still has an EMPTY slot no probe ever continued past it,
+        // so this slot can go straight back to EMPTY; otherwise leave a tombstone
+        int base = slot - (slot % GROUP_SIZE);
+        if (matchEmpty(base) != 0) {
+            ctrl[slot] = EMPTY;
+            growthLeft++;
+        } else {
+            ctrl[slot] = DELETED;
+        }
+        return true;
+    }
+    
+    // Check if key exists - O(1) average
+    public boolean containsKey(String key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+    
+    // Rebuild the table: double it, or keep the size if mostly tombstones - O(n)
+    private void rehash() {
+        byte[] oldCtrl = ctrl;
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        int groups = groupMask + 1;
+        boolean mostlyTombstones = size < (long) groups * GROUP_SIZE * 7 / 16;
+        allocate(mostlyTombstones ? groups : groups * 2);
+        
+        for (int i = 0; i < oldCtrl.length; i++) {
+            if (oldCtrl[i] >= 0) {
+                int hash = hash(oldKeys[i]);
+                int slot = findInsertSlot(hash);
+                ctrl[slot] = h2(hash);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+                growthLeft--;
+            }
+        }
+    }
+    
+    // Get current size
+    public int size() {
+        return size;
+    }
+    
+    // Check if empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    // Get number of slots
+    public int capacity() {
+        return ctrl.length;
+    }
+    
+    /**
+     * BENCHMARK - lookup cost at load factors 0.5 to 0.875
+     */
+    private static final int BENCH_SLOTS = 1 << 18;
+    private static final int BENCH_ROUNDS = 5;
+    private static long benchChecksum;  // Printed after the table so no lookup result is dead
+    
+    interface Lookup {
+        long run(String[] probes);  // Returns a checksum so the work can't be eliminated
+    }
+    
+    static double nanosPerLookup(Lookup lookup, String[] probes) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < BENCH_ROUNDS; round++) {  // First rounds double as warm-up
+            long start = System.nanoTime();
+            benchChecksum += lookup.run(probes);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / probes.length;
+    }
+    
+    public static void benchmark() {
+        double[] loadFactors = {0.5, 0.625, 0.75, 0.875};
+        System.out.printf("%-6s %-5s %12s %12s %12s %12s%n",
+                "Load", "Probe", "Swiss-SIMD", "Swiss-scalar", "HashMap", "SimpleHT");
+        
+        for (double loadFactor : loadFactors) {
+            int n = (int) (BENCH_SLOTS * loadFactor);
+            String[] hits = new String[n];
+            String[] misses = new String[n];
+            for (int i = 0; i < n; i++) {
+                hits[i] = "key" + i;
+                misses[i] = "miss" + i;
+            }
+            Collections.shuffle(Arrays.asList(hits), new Random(42));
+            
+            SwissHashTable scalar = new SwissHashTable(n, false);
+            SwissHashTable simd = VECTOR_AVAILABLE ? new SwissHashTable(n, true) : null;
+            HashMap<String, Integer> hashMap = new HashMap<>(BENCH_SLOTS, 1.0f);  // Same slot count
+            HashTableFundamentals.SimpleHashTable simple = new HashTableFundamentals.SimpleHashTable();
+            for (int i = 0; i < n; i++) {
+                scalar.put(hits[i], i);
+                if (simd != null) simd.put(hits[i], i);
+                hashMap.put(hits[i], i);
+                simple.put(hits[i], i);
+            }
+            
+            for (String[] probes : new String[][]{hits, misses}) {
+                double simdNs = simd == null ? Double.NaN : nanosPerLookup(p -> {
+                    long sum = 0;
+                    for (String key : p) sum += simd.getOrDefault(key, 0);
+                    return sum;
+                }, probes);
+                double scalarNs = nanosPerLookup(p -> {
+                    long sum = 0;
+                    for (String key : p) sum += scalar.getOrDefault(key, 0);
+                    return sum;
+                }, probes);
+                double hashMapNs = nanosPerLookup(p -> {
+                    long sum = 0;
+                    for (String key : p) sum += hashMap.getOrDefault(key, 0);
+                    return sum;
+                }, probes);
+                double simpleNs = nanosPerLookup(p -> {
+                    long sum = 0;
+                    for (String key : p) {
+                        Integer value = simple.get(key);
+                        if (value != null) sum += value;
+                    }
+                    return sum;
+                }, probes);
+                System.out.printf("%-6.3f %-5s %9.1f ns %9.1f ns %9.1f ns %9.1f ns%n", loadFactor,
+                        probes == hits ? "hit" : "miss", simdNs, scalarNs, hashMapNs, simpleNs);
+            }
+        }
+        System.out.println("(SimpleHashTable resizes itself at 0.75, so its load factor is not controlled)");
+        System.out.println("Checksum: " + benchChecksum);
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation and run the benchmark
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Swiss Table Demo ===\n");
+        System.out.println("Vector API available: " + VECTOR_AVAILABLE);
+        
+        SwissHashTable table = new SwissHashTable();
+        table.put("name", 25);
+        table.put("age", 30);
+        table.put("score", 95);
+        System.out.println("Get 'name': " + table.get("name"));
+        System.out.println("Contains 'age': " + table.containsKey("age"));
+        table.remove("score");
+        System.out.println("Size after removing 'score': " + table.size());
+        
+        for (int i = 0; i < 10_000; i++) {
+            table.put("key" + i, i);
+        }
+        System.out.println("After 10000 inserts: size=" + table.size() + ", capacity=" + table.capacity()
+                + ", key777=" + table.get("key777"));
+        
+        System.out.println("\n=== Lookup Benchmark (" + BENCH_SLOTS + " slots) ===");
+        benchmark();
+    }
+}
+
+/*
+SWISS TABLE KEY CONCEPTS:
+
+CONTROL BYTES:
+- One byte of metadata per slot, stored in its own dense array
+- EMPTY = 1000 0000, DELETED = 1111 1110, FULL = 0 + 7 hash bits (h2)
+- Remaining hash bits (h1) choose the starting group
+
+GROUP PROBING:
+- Slots are probed 16 at a time
+- One SIMD compare of 16 control bytes against h2 -> bitmask of candidates
+- Only candidates (~1/128 false positive rate) have their keys compared
+- A group containing an EMPTY slot ends the search
+
+DELETION:
+- Tombstone (DELETED) only if the group is full, otherwise back to EMPTY
+- Rehash at same size when tombstones dominate
+
+WHY IT'S FAST:
+✅ Metadata scan touches one cache line per 16 slots (vs 16 key loads)
+✅ High max load factor (7/8) with short probe sequences
+✅ Misses are cheap: usually decided by control bytes alone
+❌ Needs SIMD (or SWAR) for full benefit
+❌ More complex than chaining or linear probing
+
+JAVA NOTES:
+- jdk.incubator.vector needs --add-modules at compile and run time, so the SIMD
+  matcher is a separate class (simd/) loaded by name
+- On JDK 17 the incubator SIMD path measured slower than SWAR: measure first
+- ByteVector.eq(...).toLong() turns lane comparisons into a bitmask
+- Scalar fallback uses SWAR: bit tricks on 8 control bytes packed in a long
+- Keep the scalar path: it's the fallback and a correctness reference
+*/
\ No newline at end of file
@@ -0,0 +1,311 @@
+/**
+ * Two Sum Index - Build Once, Answer Many Targets
+ *
+ * HashTableFundamentals.twoSum and findPairsWithSum rebuild a HashMap on every call.
+ * TwoSumIndex hashes the array once (primitive keys, duplicate counts, sorted positions)
+ * and then answers any number of targets, singly or in batches, writing results into
+ * caller-provided int buffers instead of allocating int[] / List<int[]>
+ */
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+public class TwoSumIndex {
+    
+    private final int[] nums;         // Copy of the indexed array
+    private final int[] groupValue;   // Distinct value of each group
+    private final int[] groupStart;   // positions[groupStart[g] .. groupStart[g + 1]) = indices of that value
+    private final int[] positions;    // Array indices grouped by value, ascending within a group
+    private final int groupCount;
+    
+    // Open addressing map: value -> group id (slots hold id + 1, 0 = empty)
+    private final int[] slotKeys;
+    private final int[] slotGroups;
+    private final int slotMask;
+    
+    // Build the index - O(n)
+    public TwoSumIndex(int[] nums) {
+        this.nums = nums.clone();
+        int capacity = 2;
+        while (capacity < nums.length * 2) {
+            capacity <<= 1;
+        }
+        slotKeys = new int[capacity];
+        slotGroups = new int[capacity];
+        slotMask = capacity - 1;
+        
+        // Pass 1: assign a group to each distinct value (in order of first occurrence) and count it
+        int[] groupOf = new int[nums.length];
+        int[] values = new int[nums.length];
+        int[] counts = new int[nums.length];
+        int groups = 0;
+        for (int i = 0; i < nums.length; i++) {
+            int slot = findSlot(nums[i]);
+            if (slotGroups[slot] == 0) {
+                slotKeys[slot] = nums[i];
+                slotGroups[slot] = ++groups;
+                values[groups - 1] = nums[i];
+            }
+            groupOf[i] = slotGroups[slot] - 1;
+            counts[groupOf[i]]++;
+        }
+        
+        // Pass 2: prefix sums, then drop indices into their group (ascending by construction)
+        groupCount = groups;
+        groupValue = Arrays.copyOf(values, groups);
+        groupStart = new int[groups + 1];
+        for (int g = 0; g < groups; g++) {
+            groupStart[g + 1] = groupStart[g] + counts[g];
+        }
+        positions = new int[nums.length];
+        int[] fill = Arrays.copyOf(groupStart, groups);
+        for (int i = 0; i < nums.length; i++) {
+            positions[fill[groupOf[i]]++] = i;
+        }
+    }
+    
+    private static int spread(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    // Slot holding value, or the empty slot where it would go
+    private int findSlot(int value) {
+        int slot = spread(value) & slotMask;
+        while (slotGroups[slot] != 0 && slotKeys[slot] != value) {
+            slot = (slot + 1) & slotMask;
+        }
+        return slot;
+    }
+    
+    // Group id of value, or -1 - O(1) average
+    private int groupOf(int value) {
+        int slot = findSlot(value);
+        return slotGroups[slot] - 1;
+    }
+    
+    // Number of array positions holding value - O(1) average
+    public int count(int value) {
+        int g = groupOf(value);
+        return g < 0 ? 0 : groupStart[g + 1] - groupStart[g];
+    }
+    
+    // Largest index of group g that is < limit (group must have one)
+    private int lastPositionBefore(int g, int limit) {
+        int lo = groupStart[g];
+        int hi = groupStart[g + 1] - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (positions[mid] < limit) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return positions[lo];
+    }
+    
+    // Number of indices of group g that are > after
+    private int countPositionsAfter(int g, int after) {
+        int lo = groupStart[g];
+        int hi = groupStart[g + 1];
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (positions[mid] <= after) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return groupStart[g + 1] - lo;
+    }
+    
+    /**
+     * TWO SUM - same answer as HashTableFundamentals.twoSum: the pair whose second index j
+     * is smallest, with i the latest earlier index of the complement. O(min(n, distinct values))
+     */
+    public void twoSum(int target, int[] out, int offset) {
+        // Answers near the front are cheapest to find by walking j forward, like the original
+        int limit = Math.min(nums.length, groupCount);
+        for (int j = 0; j < limit; j++) {
+            int g = groupOf(target - nums[j]);
+            if (g >= 0 && positions[groupStart[g]] < j) {
+                out[offset] = lastPositionBefore(g, j);
+                out[offset + 1] = j;
+                return;
+            }
+        }
+        
+        // Otherwise check every distinct value once: each pairing's earliest j is known directly
+        int bestI = -1;
+        int bestJ = Integer.MAX_VALUE;
+        
+        for (int g = 0; g < groupCount; g++) {
+            int h = groupOf(target - groupValue[g]);
+            if (h < 0) {
+                continue;
+            }
+            int i;
+            int j;
+            if (h == g) {
+                if (groupStart[g + 1] - groupStart[g] < 2) {
+                    continue;  // Needs two copies of the same value
+                }
+                i = positions[groupStart[g]];
+                j = positions[groupStart[g] + 1];
+            } else {
+                int firstG = positions[groupStart[g]];
+                int firstH = positions[groupStart[h]];
+                j = Math.max(firstG, firstH);
+                i = lastPositionBefore(firstG < firstH ? g : h, j);
+            }
+            if (j < bestJ) {
+                bestJ = j;
+                bestI = i;
+            }
+        }
+        
+        out[offset] = bestI;
+        out[offset + 1] = bestI < 0 ? -1 : bestJ;
+    }
+    
+    public int[] twoSum(int target) {
+        int[] result = new int[2];
+        twoSum(target, result, 0);
+        return result;
+    }
+    
+    // Answer every target; out[2t], out[2t + 1] receive the indices for targets[t]
+    public void twoSumBatch(int[] targets, int[] out, boolean parallel) {
+        if (out.length < targets.length * 2) {
+            throw new IllegalArgumentException("Output buffer needs " + targets.length * 2 + " ints");
+        }
+        IntStream range = IntStream.range(0, targets.length);
+        (parallel ? range.parallel() : range).forEach(t -> twoSum(targets[t], out, 2 * t));
+    }
+    
+    /**
+     * PAIRS WITH SUM - same pairs (and count) as HashTableFundamentals.findPairsWithSum:
+     * one [complement, nums[j]] per index j whose complement occurs earlier.
+     * Pairs are grouped by nums[j] rather than ordered by j. O(distinct values * log n)
+     */
+    public int countPairsWithSum(int target) {
+        int total = 0;
+        for (int g = 0; g < groupCount; g++) {
+            int h = groupOf(target - groupValue[g]);
+            if (h >= 0) {
+                total += countPositionsAfter(g, positions[groupStart[h]]);
+            }
+        }
+        return total;
+    }
+    
+    // Writes pairs as out[offset + 2k] = complement, out[offset + 2k + 1] = value; returns pair count
+    public int findPairsWithSum(int target, int[] out, int offset) {
+        int written = 0;
+        for (int g = 0; g < groupCount; g++) {
+            int complement = target - groupValue[g];
+            int h = groupOf(complement);
+            if (h < 0) {
+                continue;
+            }
+            int pairs = countPositionsAfter(g, positions[groupStart[h]]);
+            if (offset + 2 * (written + pairs) > out.length) {
+                throw new IllegalArgumentException("Output buffer too small; size it with countPairsWithSum");
+            }
+            for (int k = 0; k < pairs; k++) {
+                out[offset + 2 * written] = complement;
+                out[offset + 2 * written + 1] = groupValue[g];
+                written++;
+            }
+        }
+        return written;
+    }
+    
+    // Pair counts for every target, e.g. to size findPairsWithSum buffers
+    public void countPairsBatch(int[] targets, int[] counts, boolean parallel) {
+        if (counts.length < targets.length) {
+            throw new IllegalArgumentException("Count buffer needs " + targets.length + " ints");
+        }
+        IntStream range = IntStream.range(0, targets.length);
+        (parallel ? range.parallel() : range).forEach(t -> counts[t] = countPairsWithSum(targets[t]));
+    }
+    
+    // Number of distinct values in the index
+    public int distinctValues() {
+        return groupCount;
+    }
+    
+    /**
+     * MAIN METHOD - Test against HashTableFundamentals and time a batch
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Two Sum Index Demo ===\n");
+        
+        TwoSumIndex index = new TwoSumIndex(new int[]{2, 7, 11, 15});
+        int[] result = index.twoSum(9);
+        System.out.println("Two Sum result: [" + result[0] + ", " + result[1] + "]");
+        
+        int[] pairNums = {1, 5, 7, -1, 5};
+        TwoSumIndex pairIndex = new TwoSumIndex(pairNums);
+        int[] pairBuffer = new int[2 * pairIndex.countPairsWithSum(6)];
+        int pairs = pairIndex.findPairsWithSum(6, pairBuffer, 0);
+        System.out.print("Pairs with sum 6: ");
+        for (int k = 0; k < pairs; k++) {
+            System.out.print("[" + pairBuffer[2 * k] + ", " + pairBuffer[2 * k + 1] + "] ");
+        }
+        System.out.println();
+        
+        // Batch: many targets against one array, compared with rebuilding a HashMap per call
+        Random random = new Random(11);
+        int[] nums = new int[20_000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(2_000);  // Many duplicates
+        }
+        int[] targets = new int[5_000];
+        for (int t = 0; t < targets.length; t++) {
+            targets[t] = random.nextInt(4_000);
+        }
+        
+        long start = System.nanoTime();
+        TwoSumIndex big = new TwoSumIndex(nums);
+        int[] answers = new int[2 * targets.length];
+        big.twoSumBatch(targets, answers, true);
+        long indexMs = (System.nanoTime() - start) / 1_000_000;
+        
+        start = System.nanoTime();
+        boolean allMatch = true;
+        for (int t = 0; t < targets.length; t++) {
+            int[] expected = HashTableFundamentals.twoSum(nums, targets[t]);
+            allMatch &= expected[0] == answers[2 * t] && expected[1] == answers[2 * t + 1];
+        }
+        long perCallMs = (System.nanoTime() - start) / 1_000_000;
+        
+        System.out.println("\n" + targets.length + " targets over " + nums.length + " ints ("
+                + big.distinctValues() + " distinct)");
+        System.out.println("Results match twoSum: " + allMatch);
+        System.out.println("Index + parallel batch: " + indexMs + " ms, HashMap per call: " + perCallMs + " ms");
+    }
+}
+
+/*
+TWO SUM INDEX KEY CONCEPTS:
+
+BUILD ONCE, QUERY MANY:
+- Per-call HashMap: O(n) build + boxing on every query
+- Index: O(n) build once, then O(distinct) per query with no allocation
+
+GROUPED POSITIONS (CSR LAYOUT):
+- Distinct values get group ids; positions of each value are stored contiguously
+- groupStart[] prefix sums give each group's slice of positions[]
+- Duplicate counts are slice lengths; "latest index before j" is a binary search
+
+PRIMITIVE HASHING:
+- int keys in an open addressing table - no Integer boxing
+- Golden-ratio multiply spreads nearby values across slots
+
+BATCHING:
+- Results go to preallocated int[] buffers (2 ints per target)
+- Targets are independent, so a parallel stream splits them across cores
+- Size pair buffers with countPairsWithSum before filling them
+*/
\ No newline at end of file
@@ -0,0 +1,35 @@
+/**
+ * Swiss SIMD Group - ByteVector group matching for SwissHashTable
+ *
+ * Kept in its own folder so "javac *.java" in 06-hash-tables builds without the
+ * incubating Vector API. SwissHashTable loads this class by name only when
+ * jdk.incubator.vector is present, and otherwise uses its SWAR matcher.
+ *
+ * Build and run from 06-hash-tables:
+ *   javac -d out *.java
+ *   javac --add-modules jdk.incubator.vector -cp out -d out simd/SwissSimdGroup.java
+ *   java  --add-modules jdk.incubator.vector -cp out SwissHashTable
+ */
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+public class SwissSimdGroup implements SwissHashTable.GroupMatcher {
+    
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;  // 16 lanes
+    private static final byte EMPTY = (byte) 0x80;
+    
+    // Bit i set = control byte (base + i) equals value
+    public int match(byte[] ctrl, int base, byte value) {
+        return (int) ByteVector.fromArray(SPECIES, ctrl, base).eq(value).toLong();
+    }
+    
+    public int matchEmpty(byte[] ctrl, int base) {
+        return match(ctrl, base, EMPTY);
+    }
+    
+    // EMPTY and DELETED are the only negative control bytes
+    public int matchEmptyOrDeleted(byte[] ctrl, int base) {
+        return (int) ByteVector.fromArray(SPECIES, ctrl, base).lt((byte) 0).toLong();
+    }
+}
\ No newline at end of file
@@ -184,49 +184,16 @@ public class ArrayListAndCollections {
     
     /**
      * PERFORMANCE COMPARISON between ArrayList and LinkedList
+     *
+     * Timing one nanoTime() pair here (no warm-up, unused results, a single run) gave
+     * misleading numbers. Measurements now live in the JMH module benchmarks/ (ListBenchmarks,
+     * StackQueueBenchmarks, HashTableBenchmarks), which also covers SinglyLinkedList, ArrayStack, ArrayQueue and SimpleHashTable
      */
     public static void performanceComparison() {
         System.out.println("\n--- Performance Comparison ---");
-        
-        int size = 100000;
-        ArrayList<Integer> arrayList = new ArrayList<>();
-        LinkedList<Integer> linkedList = new LinkedList<>();
-        
-        // Test 1: Adding elements at the end
-        long startTime = System.nanoTime();
-        for (int i = 0; i < size; i++) {
-            arrayList.add(i);
-        }
-        long arrayListAddTime = System.nanoTime() - startTime;
-        
-        startTime = System.nanoTime();
-        for (int i = 0; i < size; i++) {
-            linkedList.add(i);
-        }
-        long linkedListAddTime = System.nanoTime() - startTime;
-        
-        System.out.println("Add at end (nanoseconds):");
-        System.out.println("ArrayList: " + arrayListAddTime);
-        System.out.println("LinkedList: " + linkedListAddTime);
-        
-        // Test 2: Random access
-        Random random = new Random();
-        startTime = System.nanoTime();
-        for (int i = 0; i < 1000; i++) {
-            arrayList.get(random.nextInt(size));
-        }
-        long arrayListAccessTime = System.nanoTime() - startTime;
-        
-        startTime = System.nanoTime();
-        for (int i = 0; i < 1000; i++) {
-            linkedList.get(random.nextInt(size));
-        }
-        long linkedListAccessTime = System.nanoTime() - startTime;
-        
-        System.out.println("\nRandom access (1000 operations, nanoseconds):");
-        System.out.println("ArrayList: " + arrayListAccessTime);
-        System.out.println("LinkedList: " + linkedListAccessTime);
-        System.out.println("ArrayList is " + (linkedListAccessTime / arrayListAccessTime) + "x faster for random access");
+        System.out.println("ArrayList:  get O(1), add at end amortized O(1), insert/remove at index O(n) (array shift)");
+        System.out.println("LinkedList: get O(n), add/remove at either end O(1), insert/remove at index O(n) (traversal)");
+        System.out.println("Measured ops/s and bytes/op: see benchmarks/README.md (JMH, -prof gc)");
     }
     
     /**
@@ -356,6 +323,141 @@ public class ArrayListAndCollections {
         return new ArrayList<>(copy.subList(0, Math.min(k, copy.size())));
     }
     
+    /**
+     * PRIMITIVE HELPERS - same results as above for IntArrayList, without boxing
+     */
+    
+    // Open addressing set of ints (linear probing), used by the helpers below
+    private static final class IntHashSet {
+        private final int[] keys;
+        private final boolean[] used;
+        private final int mask;
+        
+        IntHashSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 2) * 2 - 1) << 1;  // Load <= 1/2
+            keys = new int[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+        
+        private int slot(int key) {
+            int h = key * 0x9E3779B9;  // Golden-ratio spread
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        // Returns true if key was not present
+        boolean add(int key) {
+            int slot = slot(key);
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            return true;
+        }
+        
+        boolean contains(int key) {
+            return used[slot(key)];
+        }
+    }
+    
+    // Remove duplicates while preserving order - O(n)
+    public static IntArrayList removeDuplicates(IntArrayList list) {
+        IntHashSet seen = new IntHashSet(list.size());
+        IntArrayList result = new IntArrayList(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            int value = list.get(i);
+            if (seen.add(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+    
+    // Elements of list1 (duplicates and order kept) that occur in list2 - O(n + m),
+    // where the ArrayList version's retainAll calls list2.contains per element: O(n * m)
+    public static IntArrayList findIntersection(IntArrayList list1, IntArrayList list2) {
+        IntHashSet inSecond = new IntHashSet(list2.size());
+        for (int i = 0; i < list2.size(); i++) {
+            inSecond.add(list2.get(i));
+        }
+        IntArrayList intersection = new IntArrayList();
+        for (int i = 0; i < list1.size(); i++) {
+            int value = list1.get(i);
+            if (inSecond.contains(value)) {
+                intersection.add(value);
+            }
+        }
+        return intersection;
+    }
+    
+    // Partition into even and odd - O(n)
+    public static Map<String, IntArrayList> partitionEvenOdd(IntArrayList numbers) {
+        IntArrayList even = new IntArrayList();
+        IntArrayList odd = new IntArrayList();
+        
+        for (int i = 0; i < numbers.size(); i++) {
+            int num = numbers.get(i);
+            if (num % 2 == 0) {
+                even.add(num);
+            } else {
+                odd.add(num);
+            }
+        }
+        
+        Map<String, IntArrayList> result = new HashMap<>();
+        result.put("even", even);
+        result.put("odd", odd);
+        return result;
+    }
+    
+    // Top K elements, largest first - O(n log k) with an int min-heap of size k
+    public static IntArrayList findTopK(IntArrayList list, int k) {
+        k = Math.max(0, Math.min(k, list.size()));
+        int[] heap = new int[k];  // heap[0] is the smallest of the current top k
+        int heapSize = 0;
+        for (int i = 0; i < list.size(); i++) {
+            int value = list.get(i);
+            if (heapSize < k) {
+                // Sift up
+                int child = heapSize++;
+                while (child > 0 && heap[(child - 1) / 2] > value) {
+                    heap[child] = heap[(child - 1) / 2];
+                    child = (child - 1) / 2;
+                }
+                heap[child] = value;
+            } else if (k > 0 && value > heap[0]) {
+                // Replace the minimum and sift down
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= k) {
+                        break;
+                    }
+                    if (child + 1 < k && heap[child + 1] < heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] >= value) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = value;
+            }
+        }
+        Arrays.sort(heap);
+        IntArrayList result = new IntArrayList(k);
+        for (int i = k - 1; i >= 0; i--) {
+            result.add(heap[i]);
+        }
+        return result;
+    }
+    
     /**
      * CHOOSING THE RIGHT COLLECTION
      */
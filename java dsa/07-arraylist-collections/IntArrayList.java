@@ -0,0 +1,305 @@
+/**
+ * IntArrayList - ArrayList for int values without boxing
+ *
+ * ArrayList<Integer> stores a reference per element, and each reference points to a
+ * separate Integer object (12-byte header + 4-byte value, padded to 16). IntArrayList
+ * keeps the values themselves in one growable int[]: 4 bytes per element, contiguous
+ * in memory, and no allocation per add
+ */
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public class IntArrayList {
+    
+    private static final int DEFAULT_CAPACITY = 10;
+    
+    private int[] elements;
+    private int size;
+    
+    // Constructor
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+    }
+    
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+    
+    // Grow by 50% like ArrayList (at least to minCapacity) - amortized O(1) per add
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(elements.length + (elements.length >> 1), minCapacity);
+            elements = Arrays.copyOf(elements, Math.max(newCapacity, DEFAULT_CAPACITY));
+        }
+    }
+    
+    // Release unused capacity - O(n)
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+    
+    /**
+     * ADD / ACCESS / REMOVE
+     */
+    
+    // Append - amortized O(1)
+    public void add(int value) {
+        if (size == elements.length) {
+            ensureCapacity(size + 1);
+        }
+        elements[size++] = value;
+    }
+    
+    // Insert at index - O(n)
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+    
+    // Append all - one resize at most
+    public void addAll(int[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+    
+    public void addAll(IntArrayList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+    
+    // Get - O(1)
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+    
+    // Set, returning the old value - O(1)
+    public int set(int index, int value) {
+        checkIndex(index);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+    
+    // Remove at index, returning the value - O(n)
+    public int removeAt(int index) {
+        checkIndex(index);
+        int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return old;
+    }
+    
+    public void clear() {
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * SEARCH / SORT
+     */
+    
+    // Linear search - O(n)
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+    
+    // Sort ascending in place - O(n log n), primitive dual-pivot quicksort
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+    
+    // On a sorted list: index of value, or -(insertion point) - 1 - O(log n)
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+    
+    /**
+     * CONVERSION / ITERATION
+     */
+    
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+    
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+    
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+    
+    public ArrayList<Integer> toArrayList() {
+        ArrayList<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[i]);
+        }
+        return list;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntArrayList)) {
+            return false;
+        }
+        IntArrayList other = (IntArrayList) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+    
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];  // Same as List<Integer>.hashCode()
+        }
+        return hash;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(elements[i]);
+        }
+        return result.append(']').toString();
+    }
+    
+    /**
+     * MEMORY FOOTPRINT - IntArrayList vs ArrayList<Integer>
+     */
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    public static void memoryFootprint(int n) {
+        long before = usedHeap();
+        IntArrayList primitive = new IntArrayList();
+        for (int i = 0; i < n; i++) {
+            primitive.add(i * 7);  // Values outside the Integer cache, like real data
+        }
+        long primitiveBytes = usedHeap() - before;
+        int check = primitive.get(n - 1);
+        primitive = null;
+        
+        before = usedHeap();
+        ArrayList<Integer> boxed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            boxed.add(i * 7);
+        }
+        long boxedBytes = usedHeap() - before;
+        check += boxed.get(n - 1);
+        boxed = null;
+        
+        System.out.printf("%,d elements (check %d):%n", n, check);
+        System.out.printf("IntArrayList:       %,14d bytes (%.1f bytes/element)%n", primitiveBytes, (double) primitiveBytes / n);
+        System.out.printf("ArrayList<Integer>: %,14d bytes (%.1f bytes/element), %.1fx larger%n",
+                boxedBytes, (double) boxedBytes / n, (double) boxedBytes / primitiveBytes);
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation and compare memory
+     */
+    public static void main(String[] args) {
+        System.out.println("=== IntArrayList Demo ===\n");
+        
+        IntArrayList list = IntArrayList.of(64, 34, 25, 12, 22, 11, 90);
+        list.add(1, 15);
+        System.out.println("List: " + list + ", size " + list.size());
+        System.out.println("Removed at 0: " + list.removeAt(0) + ", set(0, 35) replaced " + list.set(0, 35));
+        list.sort();
+        System.out.println("Sorted: " + list + ", binarySearch(25) = " + list.binarySearch(25));
+        System.out.println("Sum via stream: " + list.stream().sum());
+        
+        System.out.println("\n=== Specialized Helpers ===");
+        IntArrayList withDuplicates = IntArrayList.of(1, 2, 2, 3, 1, 4, 3);
+        System.out.println("removeDuplicates" + withDuplicates + " = " + ArrayListAndCollections.removeDuplicates(withDuplicates));
+        System.out.println("findIntersection([1, 2, 3, 4, 5], [4, 5, 6, 7]) = "
+                + ArrayListAndCollections.findIntersection(IntArrayList.of(1, 2, 3, 4, 5), IntArrayList.of(4, 5, 6, 7)));
+        System.out.println("partitionEvenOdd = " + ArrayListAndCollections.partitionEvenOdd(IntArrayList.of(1, 2, 3, 4, 5, 6)));
+        System.out.println("findTopK(3) = " + ArrayListAndCollections.findTopK(IntArrayList.of(85, 92, 78, 96, 88, 91, 87), 3));
+        
+        System.out.println("\n=== Memory Footprint ===");
+        int n = 10_000_000;
+        long needed = 40L * n;  // Rough peak for the boxed list, including growth copies
+        if (Runtime.getRuntime().maxMemory() < needed) {
+            n = (int) (Runtime.getRuntime().maxMemory() / 40);
+            System.out.println("(heap too small for 10^7 boxed elements; using " + n + ", run with -Xmx1g for 10^7)");
+        }
+        memoryFootprint(n);
+    }
+}
+
+/*
+INTARRAYLIST KEY CONCEPTS:
+
+BOXING COST:
+- ArrayList<Integer>: 4-8 byte reference + 16 byte Integer per element (~20 bytes
+  with compressed oops); values -128..127 share cached Integer objects
+- IntArrayList: 4 bytes per element, one contiguous array
+
+SPEED:
+- No allocation per add, no pointer chase per get
+- Arrays.sort(int[]) (dual-pivot quicksort) beats sorting Integer objects
+- Sequential int[] scans are cache and prefetch friendly
+
+API:
+- add / add(index) / get / set / removeAt / indexOf / contains
+- sort / binarySearch (on sorted lists)
+- stream() gives an IntStream; forEach takes an IntConsumer
+*/
\ No newline at end of file
@@ -345,6 +345,11 @@ public class AdvancedCollections {
         rsq.update(7, 40);
         System.out.println("Range sum [3, 7]: " + rsq.sumRange(3, 7));
         
+        // Pattern 4: Sliding window larger than the array - no complete window
+        int[] shortArr = {4, 2, 12, 3, 8};
+        System.out.println("Sliding window maximum (k = " + Integer.MAX_VALUE + "): "
+                + slidingWindowMaximum(shortArr, Integer.MAX_VALUE));
+        
         System.out.println();
     }
     
@@ -425,33 +430,49 @@ public class AdvancedCollections {
     }
     
     // Sliding window maximum using Deque
+    // Throws IllegalArgumentException for k <= 0 (previously returned nums unchanged)
     public static List<Integer> slidingWindowMaximum(int[] nums, int k) {
         List<Integer> result = new ArrayList<>();
-        Deque<Integer> deque = new ArrayDeque<>();
+        for (int max : slidingWindowMaximumArray(nums, k)) {
+            result.add(max);
+        }
+        return result;
+    }
+    
+    // Same, with a primitive deque of indices and an int[] result - no boxing; k must be positive
+    public static int[] slidingWindowMaximumArray(int[] nums, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + k);
+        }
+        if (k > nums.length) {
+            return new int[0];  // No complete window
+        }
+        int[] result = new int[nums.length - k + 1];
+        IntArrayDeque deque = new IntArrayDeque(k + 1);  // k <= nums.length here
         
         for (int i = 0; i < nums.length; i++) {
             // Remove elements outside window
-            while (!deque.isEmpty() && deque.peekFirst() < i - k + 1) {
-                deque.pollFirst();
+            while (!deque.isEmpty() && deque.peekFront() < i - k + 1) {
+                deque.removeFront();
             }
             
             // Remove smaller elements
-            while (!deque.isEmpty() && nums[deque.peekLast()] < nums[i]) {
-                deque.pollLast();
+            while (!deque.isEmpty() && nums[deque.peekRear()] < nums[i]) {
+                deque.removeRear();
             }
             
-            deque.offerLast(i);
+            deque.addRear(i);
             
             // Add to result if window is complete
             if (i >= k - 1) {
-                result.add(nums[deque.peekFirst()]);
+                result[i - k + 1] = nums[deque.peekFront()];
             }
         }
         
         return result;
     }
     
-    // LRU Cache implementation
+    // LRU Cache implementation - single-threaded; ConcurrentLRUCache is the shareable version
     static class LRUCache {
         private LinkedHashMap<Integer, String> cache;
         private final int capacity;
@@ -480,8 +501,9 @@ public class AdvancedCollections {
         }
     }
     
-    // Range Sum Query using TreeMap
-    static class RangeSumQuery {
+    // Range Sum Query using TreeMap - O(log n + k) per query; sparse indices.
+    // RangeQueries has O(log n) array-backed trees for a fixed range [0, n)
+    static class RangeSumQuery implements RangeQueries.RangeSum {
         private TreeMap<Integer, Integer> map;
         
         public RangeSumQuery() {
@@ -492,8 +514,13 @@ public class AdvancedCollections {
             map.put(index, val);
         }
         
+        // Wraps like int addition when the sum does not fit an int
         public int sumRange(int left, int right) {
-            int sum = 0;
+            return (int) sumRangeLong(left, right);
+        }
+        
+        public long sumRangeLong(int left, int right) {
+            long sum = 0;
             for (Map.Entry<Integer, Integer> entry : map.subMap(left, true, right, true).entrySet()) {
                 sum += entry.getValue();
             }
@@ -0,0 +1,528 @@
+/**
+ * Concurrent LRU Cache - Segmented LRU whose reads never take a lock
+ *
+ * AdvancedCollections.LRUCache wraps an access-ordered LinkedHashMap: every get() relinks
+ * the entry, so sharing it between threads needs one global lock around reads too. This
+ * cache (same get/put API) follows the Caffeine design:
+ * - keys are striped over segments; each segment has a ConcurrentHashMap for lookups and
+ *   its own LRU list and lock, so writers to different segments don't contend
+ * - get() reads the map without locking and records the access in a small lossy ring
+ *   buffer (one per thread stripe); when the buffer fills, the reader *tries* the segment
+ *   lock and replays the buffered accesses into the LRU list - if the lock is busy it
+ *   just returns, and an overflowing buffer drops the event instead of waiting
+ * - put() takes the segment lock, replays pending reads first, then inserts and evicts
+ *
+ * Dropped read events only make recency slightly less precise; they never lose entries.
+ * Eviction is LRU within a segment, so the cache as a whole is approximately LRU
+ */
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentLRUCache<K, V> {
+    
+    private static final int READ_BUFFER_SIZE = 16;            // Slots per stripe (power of two)
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 8;  // Try to drain once a stripe is half full
+    private static final int MIN_SEGMENT_CAPACITY = 16;        // Default segmenting keeps LRU meaningful per segment
+    
+    // Cache entry; prev/next/alive are guarded by the segment lock
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        Node<K, V> prev;
+        Node<K, V> next;
+        boolean alive = true;  // False once removed or evicted
+        
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    
+    // Lossy ring of recently read nodes: readers claim a slot with one CAS, the drainer
+    // (holding the segment lock) empties it. Full or contended -> the event is dropped
+    static final class ReadBuffer<K, V> {
+        final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        final AtomicLong writes = new AtomicLong();
+        volatile long reads;  // Advanced only by the drainer
+        
+        // Pending events after this offer, or -1 if the event was dropped
+        int offer(Node<K, V> node) {
+            long head = reads;
+            long tail = writes.get();
+            long pending = tail - head;
+            if (pending >= READ_BUFFER_SIZE || !writes.compareAndSet(tail, tail + 1)) {
+                return -1;
+            }
+            slots.lazySet((int) tail & (READ_BUFFER_SIZE - 1), node);
+            return (int) pending + 1;
+        }
+    }
+    
+    // One stripe of the cache: lookups through map, recency through the LRU list
+    final class Segment {
+        final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        final ReadBuffer<K, V>[] readBuffers;
+        final int capacity;
+        Node<K, V> head;  // Least recently used
+        Node<K, V> tail;  // Most recently used
+        int size;
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segment(int capacity, int stripes) {
+            this.capacity = capacity;
+            readBuffers = new ReadBuffer[stripes];
+            for (int i = 0; i < stripes; i++) {
+                readBuffers[i] = new ReadBuffer<>();
+            }
+        }
+        
+        // Called by get(): buffer the access, drain only if the lock is free right now
+        void recordRead(Node<K, V> node) {
+            ReadBuffer<K, V> buffer = readBuffers[threadProbe() & (readBuffers.length - 1)];
+            int pending = buffer.offer(node);
+            if (pending < 0) {
+                droppedReads.increment();
+            }
+            if (pending < 0 || pending >= READ_BUFFER_DRAIN_THRESHOLD) {
+                if (lock.tryLock()) {
+                    try {
+                        drainReadBuffers();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+        
+        // Replay buffered reads into the LRU list - lock held
+        void drainReadBuffers() {
+            for (ReadBuffer<K, V> buffer : readBuffers) {
+                long head = buffer.reads;
+                long tail = buffer.writes.get();
+                while (head < tail) {
+                    int index = (int) head & (READ_BUFFER_SIZE - 1);
+                    Node<K, V> node = buffer.slots.get(index);
+                    if (node == null) {
+                        break;  // Slot claimed but not yet written; pick it up next drain
+                    }
+                    buffer.slots.lazySet(index, null);
+                    if (node.alive) {
+                        moveToTail(node);
+                    }
+                    head++;
+                }
+                buffer.reads = head;
+            }
+        }
+        
+        void linkLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+        
+        void unlink(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+        
+        void moveToTail(Node<K, V> node) {
+            if (node != tail) {
+                unlink(node);
+                linkLast(node);
+            }
+        }
+        
+        void remove(Node<K, V> node) {
+            unlink(node);
+            node.alive = false;
+            map.remove(node.key, node);
+            size--;
+        }
+    }
+    
+    private final Segment[] segments;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder droppedReads = new LongAdder();
+    
+    // Constructor - segment count chosen from the CPU count, at least 16 entries each
+    public ConcurrentLRUCache(int capacity) {
+        this(capacity, Math.min(ceilPowerOfTwo(4 * Runtime.getRuntime().availableProcessors()),
+                Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY))));
+    }
+    
+    // segments is rounded up to a power of two; 1 segment gives exact LRU order
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLRUCache(int capacity, int segments) {
+        segments = ceilPowerOfTwo(segments);
+        if (capacity < segments) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is less than the segment count " + segments);
+        }
+        this.capacity = capacity;
+        this.segments = (Segment[]) new ConcurrentLRUCache.Segment[segments];
+        int stripes = ceilPowerOfTwo(Runtime.getRuntime().availableProcessors());
+        for (int i = 0; i < segments; i++) {
+            // Spread the remainder so the segment capacities add up to capacity
+            this.segments[i] = new Segment(capacity / segments + (i < capacity % segments ? 1 : 0), stripes);
+        }
+    }
+    
+    private static int ceilPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+    
+    // Stable per-thread stripe index
+    private static int threadProbe() {
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32);
+    }
+    
+    private Segment segmentFor(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+    
+    /**
+     * CACHE OPERATIONS
+     */
+    
+    // Get - O(1), lock-free (may try, never wait for, the segment lock)
+    public V get(K key) {
+        Segment segment = segmentFor(key);
+        Node<K, V> node = segment.map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        segment.recordRead(node);
+        return node.value;
+    }
+    
+    // Put - O(1), locks one segment; evicts that segment's least recently used entry
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.drainReadBuffers();  // Apply pending reads so the right entry is evicted
+            Node<K, V> node = segment.map.get(key);
+            if (node != null) {
+                node.value = value;
+                segment.moveToTail(node);
+                return;
+            }
+            node = new Node<>(key, value);
+            segment.map.put(key, node);
+            segment.linkLast(node);
+            segment.size++;
+            if (segment.size > segment.capacity) {
+                segment.remove(segment.head);
+                evictions.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+    
+    // Remove - O(1), returns the old value or null
+    public V remove(K key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Node<K, V> node = segment.map.get(key);
+            if (node == null) {
+                return null;
+            }
+            segment.remove(node);
+            return node.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.map.size();
+        }
+        return size;
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    public int segmentCount() {
+        return segments.length;
+    }
+    
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), droppedReads.sum(), size());
+    }
+    
+    // Snapshot of the cache's counters
+    public static final class Stats {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long droppedReads;  // Read events lost to full/contended buffers
+        public final int size;
+        
+        Stats(long hits, long misses, long evictions, long droppedReads, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.droppedReads = droppedReads;
+            this.size = size;
+        }
+        
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hitRate=%.1f%% evictions=%d droppedReads=%d size=%d",
+                    hits, misses, 100 * hitRate(), evictions, droppedReads, size);
+        }
+    }
+    
+    // Entries from least to most recently used, segment by segment
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.drainReadBuffers();
+                for (Node<K, V> node = segment.head; node != null; node = node.next) {
+                    if (result.length() > 1) {
+                        result.append(", ");
+                    }
+                    result.append(node.key).append('=').append(node.value);
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return result.append('}').toString();
+    }
+    
+    /**
+     * ZIPFIAN BENCHMARK - cache-aside reads from several threads
+     */
+    
+    // Common view of both caches for the benchmark
+    interface IntStringCache {
+        String get(int key);
+        void put(int key, String value);
+    }
+    
+    // n keys with P(rank r) proportional to 1 / r^s, sampled by binary search on the CDF
+    static int[] zipfKeys(int n, double s, int count, long seed) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, s);
+            cdf[i] = sum;
+        }
+        Random random = new Random(seed);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            rank = rank >= 0 ? rank : -rank - 1;
+            keys[i] = (rank * 0x9E3779B9) & Integer.MAX_VALUE;  // Hot keys scattered, not 0, 1, 2...
+        }
+        return keys;
+    }
+    
+    // Returns ops/s; each thread replays its own Zipfian key sequence
+    static double run(IntStringCache cache, int[][] keysPerThread, int rounds, LongAdder hitCount) throws InterruptedException {
+        int threads = keysPerThread.length;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int[] keys = keysPerThread[t];
+            new Thread(() -> {
+                try {
+                    start.await();
+                    long localHits = 0;
+                    for (int r = 0; r < rounds; r++) {
+                        for (int key : keys) {
+                            if (cache.get(key) != null) {
+                                localHits++;
+                            } else {
+                                cache.put(key, "value");
+                            }
+                        }
+                    }
+                    hitCount.add(localHits);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        return (double) threads * rounds * keysPerThread[0].length * 1e9 / (System.nanoTime() - begin);
+    }
+    
+    public static void benchmark(int keySpace, int capacity, int opsPerThread) throws InterruptedException {
+        System.out.printf("Zipf(0.99) over %,d keys, capacity %,d, %,d ops per thread, %d CPU(s)%n",
+                keySpace, capacity, opsPerThread, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %28s %28s%n", "Threads", "synchronized LRUCache", "ConcurrentLRUCache");
+        
+        int[] threadCounts = {1, 2, 4, 8, 16};
+        int[][] allKeys = new int[threadCounts[threadCounts.length - 1]][];
+        for (int t = 0; t < allKeys.length; t++) {
+            allKeys[t] = zipfKeys(keySpace, 0.99, opsPerThread, 42 + t);
+        }
+        
+        for (int threads : threadCounts) {
+            int[][] keys = Arrays.copyOf(allKeys, threads);
+            int rounds = 3;
+            
+            AdvancedCollections.LRUCache lru = new AdvancedCollections.LRUCache(capacity);
+            IntStringCache locked = new IntStringCache() {
+                @Override
+                public synchronized String get(int key) {
+                    return lru.get(key);
+                }
+                
+                @Override
+                public synchronized void put(int key, String value) {
+                    lru.put(key, value);
+                }
+            };
+            ConcurrentLRUCache<Integer, String> concurrent = new ConcurrentLRUCache<>(capacity);
+            IntStringCache striped = new IntStringCache() {
+                @Override
+                public String get(int key) {
+                    return concurrent.get(key);
+                }
+                
+                @Override
+                public void put(int key, String value) {
+                    concurrent.put(key, value);
+                }
+            };
+            
+            run(locked, keys, 1, new LongAdder());  // Warm-up
+            run(striped, keys, 1, new LongAdder());
+            
+            long total = (long) threads * rounds * opsPerThread;
+            LongAdder lockedHits = new LongAdder();
+            double lockedOps = run(locked, keys, rounds, lockedHits);
+            LongAdder stripedHits = new LongAdder();
+            double stripedOps = run(striped, keys, rounds, stripedHits);
+            System.out.printf("%-8d %14.2f Mops/s (%4.1f%%) %14.2f Mops/s (%4.1f%%)%n", threads,
+                    lockedOps / 1e6, 100.0 * lockedHits.sum() / total,
+                    stripedOps / 1e6, 100.0 * stripedHits.sum() / total);
+        }
+    }
+    
+    /**
+     * MAIN METHOD - Same behavior as LRUCache, then the concurrent benchmark
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Concurrent LRU Cache Demo ===\n");
+        
+        // Same sequence as AdvancedCollections.advancedPatterns()
+        ConcurrentLRUCache<Integer, String> cache = new ConcurrentLRUCache<>(3);
+        AdvancedCollections.LRUCache reference = new AdvancedCollections.LRUCache(3);
+        for (int i = 1; i <= 3; i++) {
+            String value = i == 1 ? "one" : i == 2 ? "two" : "three";
+            cache.put(i, value);
+            reference.put(i, value);
+        }
+        System.out.println("LRU Cache: " + cache);
+        cache.get(1);  // Access 1
+        reference.get(1);
+        cache.put(4, "four");  // Should evict 2
+        reference.put(4, "four");
+        System.out.println("After access and insert: " + cache + " (LRUCache: " + reference + ")");
+        System.out.println("get(2) = " + cache.get(2) + ", stats: " + cache.stats());
+        
+        // Many threads reading and writing one cache
+        ConcurrentLRUCache<Integer, String> shared = new ConcurrentLRUCache<>(1000);
+        Thread[] workers = new Thread[8];
+        for (int t = 0; t < workers.length; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    int key = random.nextInt(5000);
+                    String value = shared.get(key);
+                    if (value == null) {
+                        shared.put(key, "v" + key);
+                    } else if (!value.equals("v" + key)) {
+                        throw new IllegalStateException("Wrong value for " + key + ": " + value);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        System.out.println("\n8 threads x 200,000 ops on capacity 1000 (" + shared.segmentCount() + " segments): " + shared.stats());
+        
+        System.out.println("\n=== Zipfian Benchmark ===");
+        benchmark(100_000, 10_000, 1 << 20);
+    }
+}
+
+/*
+CONCURRENT LRU CACHE KEY CONCEPTS:
+
+WHY LinkedHashMap + LOCK DOESN'T SCALE:
+- Access order means get() writes (relinks the entry)
+- So every reader needs the lock -> one thread at a time on the hot path
+
+READ PATH (never blocks):
+- ConcurrentHashMap.get: lock-free lookup
+- Record the access in a per-thread-stripe ring buffer (one CAS)
+- Buffer half full: tryLock the segment and replay; busy -> skip, someone will drain later
+- Buffer full: drop the event (lossy) - recency gets slightly stale, nothing breaks
+
+WRITE PATH:
+- Lock one segment, replay its pending reads, insert/update, evict its LRU entry
+- Different segments -> no contention between writers
+
+TRADE-OFFS:
+✅ Reads scale with threads; hits never wait
+✅ Hit/miss/eviction counters are LongAdders (striped, no shared hot counter)
+❌ LRU per segment: the evicted entry is the oldest of its segment, not globally
+❌ Dropped reads can let a recently read entry be evicted a little early
+✅ One segment + single thread behaves exactly like LRUCache
+*/
\ No newline at end of file
@@ -0,0 +1,657 @@
+/**
+ * Expiring LRU Cache - LRUCache with per-entry TTLs driven by a hierarchical timer wheel
+ *
+ * AdvancedCollections.LRUCache only evicts by capacity. Finding expired entries by
+ * scanning the map is O(n) per sweep. Here every entry with a TTL sits in a bucket of a
+ * hierarchical timing wheel (like a clock: a seconds wheel, a minutes wheel, ...):
+ * - near deadlines go in fine-grained buckets, far ones in coarse buckets
+ * - advancing time only visits the buckets whose span has passed; a coarse bucket's
+ *   entries cascade down to finer wheels, at most once per level
+ * so expiring an entry costs amortized O(1), however many entries are cached.
+ *
+ * Each entry has an expire-after-write and an expire-after-access TTL (cache defaults,
+ * overridable per put); it expires at whichever deadline comes first. Expiration runs
+ * on every get/put, on cleanUp(), or on a background maintenance thread. An optional
+ * loader refreshes entries ahead of expiry: a read of an entry older than
+ * refreshAfterWrite returns the current value and reloads it in the background
+ */
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+public class ExpiringLRUCache<K, V> implements AutoCloseable {
+    
+    // Computes a fresh value for a key (refresh-ahead and getOrLoad)
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws Exception;
+    }
+    
+    // Cache entry: LRU links, timer wheel links and expiry state - all guarded by the lock
+    static final class Node<K, V> {
+        final K key;
+        V value;
+        long writeTime;
+        long accessTime;
+        long expireAfterWrite;   // Nanos, 0 = never
+        long expireAfterAccess;  // Nanos, 0 = never
+        long expiresAt = Long.MAX_VALUE;
+        long writes;             // Bumped by every put, so a stale refresh can't overwrite it
+        boolean refreshing;
+        Node<K, V> prev;         // LRU list
+        Node<K, V> next;
+        Node<K, V> timerPrev;    // Timer wheel bucket list; null when not scheduled
+        Node<K, V> timerNext;
+        
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+    
+    /**
+     * HIERARCHICAL TIMER WHEEL
+     *
+     * Level i has BUCKETS[i] buckets, each spanning 2^SHIFT[i] ns:
+     *   ~16.8 ms x 64 (~1.07 s), ~1.07 s x 64 (~68.7 s), ~68.7 s x 64 (~73 min),
+     *   ~73 min x 64 (~3.3 days), then one overflow bucket
+     */
+    static final class TimerWheel<K, V> {
+        private static final int[] BUCKETS = {64, 64, 64, 64, 1};
+        private static final int[] SHIFT = {24, 30, 36, 42, 48};
+        
+        private final Node<K, V>[][] wheel;  // Sentinel of each bucket's circular list
+        private long nanos;                  // Time the wheel has advanced to
+        private long cascades;               // Entries moved down a level (or re-bucketed)
+        
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        TimerWheel(long now) {
+            nanos = now;
+            wheel = new Node[BUCKETS.length][];
+            for (int level = 0; level < BUCKETS.length; level++) {
+                wheel[level] = new Node[BUCKETS[level]];
+                for (int b = 0; b < BUCKETS[level]; b++) {
+                    Node<K, V> sentinel = new Node<>(null, null);
+                    sentinel.timerPrev = sentinel;
+                    sentinel.timerNext = sentinel;
+                    wheel[level][b] = sentinel;
+                }
+            }
+        }
+        
+        // Finest level whose range covers the remaining time - O(levels)
+        private Node<K, V> findBucket(long time) {
+            long duration = time - nanos;
+            int last = wheel.length - 1;
+            for (int level = 0; level < last; level++) {
+                if (duration < 1L << SHIFT[level + 1]) {
+                    long ticks = time >>> SHIFT[level];
+                    return wheel[level][(int) (ticks & (wheel[level].length - 1))];
+                }
+            }
+            return wheel[last][0];
+        }
+        
+        // Add, or move after a deadline change - O(1)
+        void schedule(Node<K, V> node) {
+            deschedule(node);
+            Node<K, V> sentinel = findBucket(node.expiresAt);
+            node.timerPrev = sentinel.timerPrev;
+            node.timerNext = sentinel;
+            sentinel.timerPrev.timerNext = node;
+            sentinel.timerPrev = node;
+        }
+        
+        void deschedule(Node<K, V> node) {
+            if (node.timerNext != null) {
+                node.timerPrev.timerNext = node.timerNext;
+                node.timerNext.timerPrev = node.timerPrev;
+                node.timerPrev = null;
+                node.timerNext = null;
+            }
+        }
+        
+        // Visit every bucket whose span has (partly) elapsed since the last advance
+        void advance(long now, Consumer<Node<K, V>> onExpired) {
+            long previous = nanos;
+            if (now <= previous) {
+                return;
+            }
+            nanos = now;
+            for (int level = 0; level < SHIFT.length; level++) {
+                long previousTicks = previous >>> SHIFT[level];
+                long delta = (now >>> SHIFT[level]) - previousTicks;
+                if (delta <= 0) {
+                    break;  // Coarser levels haven't ticked either
+                }
+                expire(level, previousTicks, delta, onExpired);
+            }
+        }
+        
+        // Entries in the current finest bucket can fall due before the next tick; only
+        // this bucket can hold due entries after advance(). O(bucket size)
+        void expireCurrentBucket(Consumer<Node<K, V>> onExpired) {
+            Node<K, V> sentinel = wheel[0][(int) ((nanos >>> SHIFT[0]) & (wheel[0].length - 1))];
+            Node<K, V> node = sentinel.timerNext;
+            while (node != sentinel) {
+                Node<K, V> next = node.timerNext;
+                if (node.expiresAt <= nanos) {
+                    deschedule(node);
+                    onExpired.accept(node);
+                }
+                node = next;
+            }
+        }
+        
+        private void expire(int level, long previousTicks, long delta, Consumer<Node<K, V>> onExpired) {
+            Node<K, V>[] buckets = wheel[level];
+            int mask = buckets.length - 1;
+            int steps = (int) Math.min(delta + 1, buckets.length);
+            int start = (int) (previousTicks & mask);
+            for (int i = start; i < start + steps; i++) {
+                Node<K, V> sentinel = buckets[i & mask];
+                Node<K, V> node = sentinel.timerNext;
+                sentinel.timerPrev = sentinel;  // Detach the whole bucket
+                sentinel.timerNext = sentinel;
+                while (node != sentinel) {
+                    Node<K, V> next = node.timerNext;
+                    node.timerPrev = null;
+                    node.timerNext = null;
+                    if (node.expiresAt <= nanos) {
+                        onExpired.accept(node);
+                    } else {
+                        schedule(node);  // Not due yet: cascade to a finer bucket
+                        cascades++;
+                    }
+                    node = next;
+                }
+            }
+        }
+    }
+    
+    private final Map<K, Node<K, V>> map = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimerWheel<K, V> wheel;
+    private final Consumer<Node<K, V>> expireNode = this::expire;
+    private final LongSupplier nanoClock;
+    private final long origin;  // Times are kept relative to construction, so never negative
+    private final int capacity;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private Node<K, V> head;  // Least recently used
+    private Node<K, V> tail;  // Most recently used
+    
+    private Loader<K, V> loader;
+    private long refreshAfterWrite;  // Nanos, 0 = no refresh-ahead
+    private Executor refreshExecutor;
+    private ScheduledExecutorService maintenance;
+    
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long refreshes;
+    private long refreshFailures;
+    
+    // Constructor - TTLs of 0 mean "never"; both 0 gives a plain LRUCache
+    public ExpiringLRUCache(int capacity, long expireAfterWrite, long expireAfterAccess, TimeUnit unit) {
+        this(capacity, expireAfterWrite, expireAfterAccess, unit, System::nanoTime);
+    }
+    
+    // nanoClock lets tests and simulations control time
+    public ExpiringLRUCache(int capacity, long expireAfterWrite, long expireAfterAccess, TimeUnit unit, LongSupplier nanoClock) {
+        if (capacity < 1 || expireAfterWrite < 0 || expireAfterAccess < 0) {
+            throw new IllegalArgumentException("Capacity must be positive and TTLs non-negative");
+        }
+        this.capacity = capacity;
+        this.expireAfterWrite = unit.toNanos(expireAfterWrite);
+        this.expireAfterAccess = unit.toNanos(expireAfterAccess);
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.wheel = new TimerWheel<>(0);
+    }
+    
+    // Reads of entries older than refreshAfterWrite trigger an asynchronous reload
+    public ExpiringLRUCache<K, V> refreshAhead(Loader<K, V> loader, long refreshAfterWrite, TimeUnit unit, Executor executor) {
+        lock.lock();
+        try {
+            this.loader = loader;
+            this.refreshAfterWrite = unit.toNanos(refreshAfterWrite);
+            this.refreshExecutor = executor;
+            return this;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Expire entries every period on a daemon thread, even when the cache is idle
+    public void startMaintenance(long period, TimeUnit unit) {
+        lock.lock();
+        try {
+            if (maintenance == null) {
+                maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "cache-maintenance");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                maintenance.scheduleWithFixedDelay(this::cleanUp, period, period, unit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (maintenance != null) {
+                maintenance.shutdownNow();
+                maintenance = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long now() {
+        return nanoClock.getAsLong() - origin;
+    }
+    
+    /**
+     * CACHE OPERATIONS - all O(1) amortized
+     */
+    
+    // Get - null if absent or expired; may start a background refresh
+    public V get(K key) {
+        Node<K, V> refresh = null;
+        V value;
+        long writes = 0;
+        lock.lock();
+        try {
+            long now = now();
+            wheel.advance(now, expireNode);
+            Node<K, V> node = map.get(key);
+            if (node == null || node.expiresAt <= now) {
+                if (node != null) {
+                    expire(node);  // Due, but its bucket hasn't been reached yet
+                }
+                misses++;
+                return null;
+            }
+            hits++;
+            moveToTail(node);
+            if (node.expireAfterAccess > 0) {
+                node.accessTime = now;
+                updateExpiry(node);
+            }
+            if (refreshAfterWrite > 0 && !node.refreshing && now - node.writeTime >= refreshAfterWrite) {
+                node.refreshing = true;
+                refresh = node;
+                writes = node.writes;
+            }
+            value = node.value;
+        } finally {
+            lock.unlock();
+        }
+        if (refresh != null) {
+            startRefresh(refresh, writes);
+        }
+        return value;
+    }
+    
+    // Get, loading synchronously on a miss (the loader runs outside the lock)
+    public V getOrLoad(K key) throws Exception {
+        V value = get(key);
+        if (value == null) {
+            if (loader == null) {
+                throw new IllegalStateException("No loader configured: call refreshAhead first");
+            }
+            value = loader.load(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+    
+    // Put with the cache's default TTLs
+    public void put(K key, V value) {
+        put(key, value, expireAfterWrite, expireAfterAccess, TimeUnit.NANOSECONDS);
+    }
+    
+    // Put with this entry's own TTLs (0 = never)
+    public void put(K key, V value, long expireAfterWrite, long expireAfterAccess, TimeUnit unit) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        lock.lock();
+        try {
+            long now = now();
+            wheel.advance(now, expireNode);
+            Node<K, V> node = map.get(key);
+            if (node == null) {
+                node = new Node<>(key, value);
+                map.put(key, node);
+                linkLast(node);
+                if (map.size() > capacity) {
+                    wheel.expireCurrentBucket(expireNode);  // Reclaim due entries before evicting live ones
+                }
+                if (map.size() > capacity) {
+                    remove(head);
+                    evictions++;
+                }
+            } else {
+                node.value = value;
+                node.refreshing = false;
+                moveToTail(node);
+            }
+            node.writes++;
+            node.writeTime = now;
+            node.accessTime = now;
+            node.expireAfterWrite = unit.toNanos(expireAfterWrite);
+            node.expireAfterAccess = unit.toNanos(expireAfterAccess);
+            updateExpiry(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public V remove(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = map.get(key);
+            if (node == null) {
+                return null;
+            }
+            remove(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Expire everything that is due - called by the maintenance thread, or manually
+    public void cleanUp() {
+        lock.lock();
+        try {
+            wheel.advance(now(), expireNode);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Entries still held, including expired ones the wheel hasn't reached yet
+    public int size() {
+        lock.lock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * INTERNALS - lock held
+     */
+    
+    private void updateExpiry(Node<K, V> node) {
+        long byWrite = node.expireAfterWrite > 0 ? deadline(node.writeTime, node.expireAfterWrite) : Long.MAX_VALUE;
+        long byAccess = node.expireAfterAccess > 0 ? deadline(node.accessTime, node.expireAfterAccess) : Long.MAX_VALUE;
+        node.expiresAt = Math.min(byWrite, byAccess);
+        if (node.expiresAt == Long.MAX_VALUE) {
+            wheel.deschedule(node);
+        } else {
+            wheel.schedule(node);
+        }
+    }
+    
+    // time + ttl, saturating: a TTL too long to represent means never (toNanos saturates too)
+    private static long deadline(long time, long ttl) {
+        return time > 0 && ttl > Long.MAX_VALUE - time ? Long.MAX_VALUE : time + ttl;
+    }
+    
+    private void expire(Node<K, V> node) {
+        remove(node);
+        expirations++;
+    }
+    
+    private void remove(Node<K, V> node) {
+        map.remove(node.key);
+        unlink(node);
+        wheel.deschedule(node);
+    }
+    
+    private void linkLast(Node<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+    }
+    
+    private void unlink(Node<K, V> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+    
+    private void moveToTail(Node<K, V> node) {
+        if (node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+    
+    // Reload outside the lock; install the value only if nobody wrote the entry meanwhile
+    private void startRefresh(Node<K, V> node, long writes) {
+        Loader<K, V> currentLoader = loader;
+        try {
+            refreshExecutor.execute(() -> refresh(node, writes, currentLoader));
+        } catch (RejectedExecutionException e) {
+            // Executor shut down or saturated: allow a later get() to try again
+            lock.lock();
+            try {
+                node.refreshing = false;
+                refreshFailures++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    private void refresh(Node<K, V> node, long writes, Loader<K, V> currentLoader) {
+        V value = null;
+        try {
+            value = currentLoader.load(node.key);
+        } catch (Exception e) {
+            // Keep serving the old value until it expires
+        }
+        lock.lock();
+        try {
+            node.refreshing = false;
+            if (value == null) {
+                refreshFailures++;
+            } else if (map.get(node.key) == node && node.writes == writes) {
+                long now = now();
+                node.value = value;
+                node.writes++;
+                node.writeTime = now;
+                node.accessTime = now;
+                updateExpiry(node);
+                refreshes++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits, misses, evictions, expirations, refreshes, refreshFailures, wheel.cascades, map.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Snapshot of the cache's counters
+    public static final class Stats {
+        public final long hits;
+        public final long misses;
+        public final long evictions;    // Removed for capacity
+        public final long expirations;  // Removed by TTL
+        public final long refreshes;
+        public final long refreshFailures;
+        public final long cascades;     // Timer wheel re-bucketings
+        public final int size;
+        
+        Stats(long hits, long misses, long evictions, long expirations, long refreshes, long refreshFailures, long cascades, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.refreshes = refreshes;
+            this.refreshFailures = refreshFailures;
+            this.cascades = cascades;
+            this.size = size;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d evictions=%d expirations=%d refreshes=%d refreshFailures=%d cascades=%d size=%d",
+                    hits, misses, evictions, expirations, refreshes, refreshFailures, cascades, size);
+        }
+    }
+    
+    // Entries from least to most recently used (expired ones not yet reached included)
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            StringBuilder result = new StringBuilder("{");
+            for (Node<K, V> node = head; node != null; node = node.next) {
+                if (node != head) {
+                    result.append(", ");
+                }
+                result.append(node.key).append('=').append(node.value);
+            }
+            return result.append('}').toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * MAIN METHOD - TTLs on a controllable clock, refresh-ahead, then wheel scaling
+     */
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Expiring LRU Cache Demo ===\n");
+        
+        AtomicLong clock = new AtomicLong();
+        ExpiringLRUCache<Integer, String> sessions = new ExpiringLRUCache<>(100, 30, 10, TimeUnit.MINUTES, clock::get);
+        sessions.put(1, "alice");
+        sessions.put(2, "bob");
+        sessions.put(3, "carol", 5, 0, TimeUnit.SECONDS);  // Per-entry TTL: 5 s after write, no idle limit
+        System.out.println("Sessions: " + sessions);
+        
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        System.out.println("+6 s:  get(3) = " + sessions.get(3) + " (write TTL 5 s)");
+        
+        // Keep 1 active: access every 8 minutes; 2 idles out after 10 minutes
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(8));
+            sessions.get(1);
+        }
+        System.out.println("+24 min: " + sessions + " - 2 idled out, 1 kept alive by reads");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(7));
+        sessions.cleanUp();
+        System.out.println("+31 min: " + sessions + " - 1 reached its 30 min write TTL");
+        System.out.println("Stats: " + sessions.stats());
+        
+        // Refresh-ahead: reads after 1 minute reload in the background, serving the old value meanwhile
+        System.out.println("\n=== Refresh-Ahead ===");
+        AtomicLong version = new AtomicLong();
+        ExpiringLRUCache<String, String> config = new ExpiringLRUCache<String, String>(10, 5, 0, TimeUnit.MINUTES, clock::get)
+                .refreshAhead(key -> key + "-v" + version.incrementAndGet(), 1, TimeUnit.MINUTES, Runnable::run);
+        System.out.println("getOrLoad: " + config.getOrLoad("flags"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(90));
+        System.out.println("+90 s get: " + config.get("flags") + " (triggers refresh), next get: " + config.get("flags"));
+        System.out.println("Stats: " + config.stats());
+        
+        // Background maintenance on the real clock: entries vanish without being read
+        System.out.println("\n=== Maintenance Thread ===");
+        try (ExpiringLRUCache<Integer, Integer> shortLived = new ExpiringLRUCache<>(1000, 100, 0, TimeUnit.MILLISECONDS)) {
+            for (int i = 0; i < 500; i++) {
+                shortLived.put(i, i);
+            }
+            shortLived.startMaintenance(20, TimeUnit.MILLISECONDS);
+            System.out.println("Size after put: " + shortLived.size());
+            Thread.sleep(300);
+            System.out.println("Size 300 ms later, never read: " + shortLived.size());
+        }
+        
+        // Expiration cost per entry stays flat as the cache grows (no O(n) scans)
+        System.out.println("\n=== Timer Wheel Scaling ===");
+        for (int n : new int[]{100_000, 1_000_000}) {
+            AtomicLong time = new AtomicLong();
+            ExpiringLRUCache<Integer, Integer> cache = new ExpiringLRUCache<>(n, 0, 0, TimeUnit.SECONDS, time::get);
+            Random random = new Random(1);
+            for (int i = 0; i < n; i++) {
+                cache.put(i, i, 1 + random.nextInt(3600), 0, TimeUnit.SECONDS);  // TTLs from 1 s to 1 h
+            }
+            long start = System.nanoTime();
+            for (int second = 1; second <= 3600; second++) {
+                time.set(TimeUnit.SECONDS.toNanos(second));
+                cache.cleanUp();
+            }
+            long elapsed = System.nanoTime() - start;
+            Stats stats = cache.stats();
+            System.out.printf("%,9d entries: %,d expired over 3,600 ticks in %d ms (%.0f ns/entry, %.2f cascades/entry)%n",
+                    n, stats.expirations, elapsed / 1_000_000, (double) elapsed / n, (double) stats.cascades / n);
+        }
+    }
+}
+
+/*
+EXPIRING LRU CACHE KEY CONCEPTS:
+
+TWO TTLs PER ENTRY:
+- Expire-after-write: fixed lifetime from the last put (config, tokens)
+- Expire-after-access: idle timeout, reset by every read (sessions)
+- Deadline = min of the two; both can be set per entry
+
+HIERARCHICAL TIMER WHEEL:
+- Buckets of ~16.8 ms, ~1.07 s, ~68.7 s, ~73 min, plus an overflow bucket
+- Schedule: pick the finest level whose range covers the deadline - O(1)
+- Reschedule on access: unlink + link - O(1)
+- Advance: visit only the buckets whose time has passed; entries not yet due
+  cascade to a finer level -> each entry moves at most once per level
+- Amortized O(1) per expiration, vs O(n) for scanning the whole map
+
+WHEN EXPIRATION RUNS:
+- Every get/put advances the wheel (no extra thread needed)
+- get() also checks the exact deadline: an expired entry is never returned, even if
+  its coarse bucket hasn't been reached
+- startMaintenance(): a daemon thread calls cleanUp() so idle caches shrink too
+
+REFRESH-AHEAD:
+- Read after refreshAfterWrite -> return the current value, reload asynchronously
+- Hot entries never expire under readers' feet; a failed reload keeps the old value
+- A put during the reload wins: the stale reload is discarded
+*/
\ No newline at end of file
@@ -0,0 +1,263 @@
+/**
+ * IntArrayDeque - Primitive double-ended queue on a circular int[]
+ *
+ * QueueImplementation.Deque allocates a doubly linked node per element (object
+ * header + int + two pointers), and ArrayDeque<Integer> boxes every value. This
+ * deque keeps ints directly in a power-of-two circular array: head and tail wrap
+ * with & mask, both ends are O(1), and the array doubles when full
+ */
+
+import java.util.*;
+
+public class IntArrayDeque implements Iterable<Integer> {
+    
+    private int[] elements;
+    private int head;   // Index of front element
+    private int tail;   // Index one past the rear element
+    private int size;
+    private int mask;   // elements.length - 1
+    
+    // Constructor
+    public IntArrayDeque() {
+        this(16);
+    }
+    
+    public IntArrayDeque(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+    
+    // Double the array, unwrapping so the front lands at index 0 - O(n), amortized O(1)
+    private void grow(int minCapacity) {
+        int newCapacity = elements.length;
+        while (newCapacity < minCapacity) {
+            newCapacity <<= 1;
+            if (newCapacity <= 0) {
+                throw new IllegalStateException("Deque too large");
+            }
+        }
+        int[] newElements = new int[newCapacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        mask = newCapacity - 1;
+        head = 0;
+        tail = size;
+    }
+    
+    /**
+     * ADD OPERATIONS
+     */
+    
+    // Add element to front - O(1) amortized
+    public void addFront(int data) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        head = (head - 1) & mask;
+        elements[head] = data;
+        size++;
+    }
+    
+    // Add element to rear - O(1) amortized
+    public void addRear(int data) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[tail] = data;
+        tail = (tail + 1) & mask;
+        size++;
+    }
+    
+    // Add all values at the rear, in order - at most one resize and two array copies
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+    
+    public void addAll(int[] values, int offset, int length) {
+        if (size + length > elements.length) {
+            grow(size + length);
+        }
+        int firstPart = Math.min(length, elements.length - tail);
+        System.arraycopy(values, offset, elements, tail, firstPart);
+        System.arraycopy(values, offset + firstPart, elements, 0, length - firstPart);
+        tail = (tail + length) & mask;
+        size += length;
+    }
+    
+    /**
+     * REMOVE OPERATIONS
+     */
+    
+    // Remove element from front - O(1)
+    public int removeFront() {
+        if (isEmpty()) {
+            throw new RuntimeException("Deque is empty");
+        }
+        int data = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return data;
+    }
+    
+    // Remove element from rear - O(1)
+    public int removeRear() {
+        if (isEmpty()) {
+            throw new RuntimeException("Deque is empty");
+        }
+        tail = (tail - 1) & mask;
+        size--;
+        return elements[tail];
+    }
+    
+    // Remove everything - O(1)
+    public void clear() {
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+    
+    /**
+     * PEEK OPERATIONS
+     */
+    
+    // Peek at front element - O(1)
+    public int peekFront() {
+        if (isEmpty()) {
+            throw new RuntimeException("Deque is empty");
+        }
+        return elements[head];
+    }
+    
+    // Peek at rear element - O(1)
+    public int peekRear() {
+        if (isEmpty()) {
+            throw new RuntimeException("Deque is empty");
+        }
+        return elements[(tail - 1) & mask];
+    }
+    
+    // Element at position index from the front - O(1)
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) & mask];
+    }
+    
+    /**
+     * UTILITY OPERATIONS
+     */
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public int capacity() {
+        return elements.length;
+    }
+    
+    // Front-to-rear copy - O(n)
+    public int[] toArray() {
+        int[] array = new int[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+        return array;
+    }
+    
+    // Primitive front-to-rear iterator: nextInt() never boxes
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+            
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[(head + index++) & mask];
+            }
+        };
+    }
+    
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Deque is empty");
+            return;
+        }
+        
+        System.out.print("Deque (front to rear): ");
+        for (int i = 0; i < size; i++) {
+            System.out.print(elements[(head + i) & mask]);
+            if (i < size - 1) System.out.print(" <-> ");
+        }
+        System.out.println();
+    }
+    
+    /**
+     * MAIN METHOD - Test the implementation
+     */
+    public static void main(String[] args) {
+        System.out.println("=== IntArrayDeque Demo ===\n");
+        
+        IntArrayDeque deque = new IntArrayDeque(4);
+        deque.addRear(10);
+        deque.addFront(20);
+        deque.addRear(30);
+        deque.addFront(40);
+        deque.display();
+        
+        deque.addAll(new int[]{50, 60, 70});  // Grows past the initial capacity of 4
+        deque.display();
+        System.out.println("Capacity: " + deque.capacity());
+        
+        System.out.println("Remove front: " + deque.removeFront());
+        System.out.println("Remove rear: " + deque.removeRear());
+        System.out.println("Peek front: " + deque.peekFront() + ", peek rear: " + deque.peekRear());
+        
+        int sum = 0;
+        PrimitiveIterator.OfInt it = deque.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        System.out.println("Sum via primitive iterator: " + sum);
+        
+        int[] nums = {1, 3, -1, -3, 5, 3, 6, 7};
+        System.out.println("Sliding window maximum: " + AdvancedCollections.slidingWindowMaximum(nums, 3));
+    }
+}
+
+/*
+INT ARRAY DEQUE KEY CONCEPTS:
+
+CIRCULAR ARRAY WITH MASKS:
+- Capacity is a power of two, so wrapping is index & (capacity - 1)
+- addFront: head = (head - 1) & mask - works for head = 0 too
+- addRear writes at tail, then tail = (tail + 1) & mask
+
+GROWTH:
+- Full: double and unwrap (front..end, then 0..tail) into the new array
+- Amortized O(1) per add
+
+MEMORY PER ELEMENT:
+- QueueImplementation.Deque: ~32 bytes (node header, int, prev, next)
+- ArrayDeque<Integer>: 4-8 byte reference + 16 byte Integer (outside -128..127)
+- IntArrayDeque: 4 bytes
+
+PRIMITIVE ITERATION:
+- PrimitiveIterator.OfInt.nextInt() returns int - no boxing in loops
+- for-each over the deque still works (Iterable<Integer>) but boxes
+*/
\ No newline at end of file
@@ -0,0 +1,637 @@
+/**
+ * Off-Heap LRU Cache - Byte-budgeted Integer -> String cache with values outside the heap
+ *
+ * AdvancedCollections.LRUCache keeps every String on the heap and counts capacity in
+ * entries, so 1,000 entries may be 1 MB or 1 GB. This cache has a byte budget and keeps
+ * values as UTF-8 in direct ByteBuffer pages, memcached style:
+ * - memory is split into fixed-size pages; each page belongs to one slab class and is
+ *   carved into equal chunks (classes grow by ~1.25x from 64 bytes to a whole page)
+ * - a value goes in the smallest chunk that fits; the chunk's 4-byte header stores the
+ *   owning entry, so a page can be emptied without a heap-side reverse index
+ * - the heap holds only a primitive index: int arrays for keys, chunk locations,
+ *   lengths and LRU links (~40 bytes per entry, whatever the value size)
+ * - when the budget is used up, the least recently used entry goes: from the value's
+ *   own class, or - if another class holds older data - that class's oldest page is
+ *   moved to the needed class (slab rebalancing), so eviction approximates one LRU
+ *   across all bytes
+ *
+ * Not thread-safe, like LRUCache
+ */
+
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class OffHeapLRUCache {
+    
+    private static final int NIL = -1;
+    private static final int HEADER = 4;          // Owner entry id at the start of each chunk
+    private static final int MIN_CHUNK = 64;
+    private static final double GROWTH_FACTOR = 1.25;
+    private static final int MAX_PAGES = 1 << 15;  // location = page << 16 | chunk
+    
+    // Pages
+    private final int pageSize;
+    private final int maxPages;
+    private final ByteBuffer[] pages;
+    private final byte[] pageClass;
+    private int allocatedPages;
+    
+    // Slab classes
+    private final int[] chunkSize;
+    private final int[] classPages;
+    private final int[] usedChunks;
+    private final long[] classStoredBytes;
+    private final int[] lruHead;          // Least recently used entry of each class
+    private final int[] lruTail;          // Most recently used entry of each class
+    private final int[][] freeChunks;     // Stack of free chunk locations per class
+    private final int[] freeCount;
+    
+    // Entries, struct-of-arrays; free ids are chained through entryNext
+    private int[] entryKey = new int[64];
+    private int[] entryLocation = new int[64];
+    private int[] entryLength = new int[64];
+    private int[] entryPrev = new int[64];
+    private int[] entryNext = new int[64];
+    private int[] entryTick = new int[64];  // Access clock, to compare LRU ages across classes
+    private byte[] entryClass = new byte[64];
+    private int entryHighWater;             // Ids below this have been used
+    private int freeEntry = NIL;
+    private int clock;
+    
+    // Index: open addressing (linear probing) key -> entry id
+    private int[] indexKeys = new int[128];
+    private int[] indexEntries = filled(128);
+    private int size;
+    
+    private final byte[] scratch;           // Decode buffer for get()
+    private long storedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rebalances;
+    
+    // Constructor - 1 MB pages
+    public OffHeapLRUCache(long maxBytes) {
+        this(maxBytes, 1 << 20);
+    }
+    
+    public OffHeapLRUCache(long maxBytes, int pageSize) {
+        if (pageSize < MIN_CHUNK || pageSize > (MIN_CHUNK << 16) || maxBytes < pageSize) {
+            throw new IllegalArgumentException("Need 64 B <= pageSize <= 4 MB and maxBytes >= pageSize");
+        }
+        if (maxBytes / pageSize > MAX_PAGES) {
+            throw new IllegalArgumentException("At most " + MAX_PAGES + " pages: use larger pages");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = (int) (maxBytes / pageSize);
+        this.pages = new ByteBuffer[maxPages];
+        this.pageClass = new byte[maxPages];
+        this.scratch = new byte[pageSize];
+        
+        List<Integer> sizes = new ArrayList<>();
+        for (int chunk = MIN_CHUNK; chunk < pageSize; chunk = Math.max(chunk + 8, (int) (chunk * GROWTH_FACTOR) + 7 & ~7)) {
+            sizes.add(chunk);
+        }
+        sizes.add(pageSize);
+        int classes = sizes.size();
+        chunkSize = sizes.stream().mapToInt(Integer::intValue).toArray();
+        classPages = new int[classes];
+        usedChunks = new int[classes];
+        classStoredBytes = new long[classes];
+        lruHead = filled(classes);
+        lruTail = filled(classes);
+        freeChunks = new int[classes][16];
+        freeCount = new int[classes];
+    }
+    
+    private static int[] filled(int length) {
+        int[] array = new int[length];
+        Arrays.fill(array, NIL);
+        return array;
+    }
+    
+    /**
+     * CACHE OPERATIONS
+     */
+    
+    // Get - O(1) plus decoding the value
+    public String get(int key) {
+        int entry = find(key);
+        if (entry == NIL) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(entry);
+        int location = entryLocation[entry];
+        int offset = (location & 0xFFFF) * chunkSize[entryClass[entry]] + HEADER;
+        pages[location >>> 16].get(offset, scratch, 0, entryLength[entry]);
+        return new String(scratch, 0, entryLength[entry], StandardCharsets.UTF_8);
+    }
+    
+    // Put - O(1) amortized; may evict entries (or a page of them) to stay within the budget
+    public void put(int key, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length + HEADER > pageSize) {
+            throw new IllegalArgumentException("Value of " + bytes.length + " bytes does not fit a " + pageSize + " byte page");
+        }
+        int cls = classFor(bytes.length + HEADER);
+        int entry = find(key);
+        if (entry != NIL && entryClass[entry] != cls) {
+            removeEntry(entry);  // New size needs a different chunk size
+            entry = NIL;
+        }
+        if (entry == NIL) {
+            int location = allocateChunk(cls);
+            entry = newEntry(key, cls, location);
+            indexPut(key, entry);
+            size++;
+        } else {
+            classStoredBytes[cls] -= entryLength[entry];
+            storedBytes -= entryLength[entry];
+            touch(entry);
+        }
+        int location = entryLocation[entry];
+        int offset = (location & 0xFFFF) * chunkSize[cls];
+        ByteBuffer page = pages[location >>> 16];
+        page.putInt(offset, entry);
+        page.put(offset + HEADER, bytes);
+        entryLength[entry] = bytes.length;
+        classStoredBytes[cls] += bytes.length;
+        storedBytes += bytes.length;
+    }
+    
+    public boolean remove(int key) {
+        int entry = find(key);
+        if (entry == NIL) {
+            return false;
+        }
+        removeEntry(entry);
+        return true;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    // UTF-8 bytes of all values currently stored
+    public long storedBytes() {
+        return storedBytes;
+    }
+    
+    public long maxBytes() {
+        return (long) maxPages * pageSize;
+    }
+    
+    /**
+     * SLAB ALLOCATION
+     */
+    
+    // Smallest class whose chunks fit needed bytes - O(log classes)
+    private int classFor(int needed) {
+        int index = Arrays.binarySearch(chunkSize, needed);
+        return index >= 0 ? index : -index - 1;
+    }
+    
+    private int allocateChunk(int cls) {
+        if (freeCount[cls] == 0) {
+            if (allocatedPages < maxPages) {
+                pages[allocatedPages] = ByteBuffer.allocateDirect(pageSize);
+                assignPage(allocatedPages++, cls);
+            } else {
+                makeRoom(cls);
+            }
+        }
+        int location = freeChunks[cls][--freeCount[cls]];
+        usedChunks[cls]++;
+        return location;
+    }
+    
+    // Budget exhausted: take over a page of a class that holds no entries, else evict
+    // this class's LRU entry, or move the page holding the oldest data of another class
+    // here if that data is older
+    private void makeRoom(int cls) {
+        int oldestClass = NIL;
+        for (int c = 0; c < chunkSize.length; c++) {
+            if (c != cls && classPages[c] > 0 && usedChunks[c] == 0) {
+                int page = 0;
+                while (pageClass[page] != c) {
+                    page++;
+                }
+                movePage(page, c, cls);
+                return;
+            }
+            if (c != cls && lruHead[c] != NIL && (oldestClass == NIL || older(lruHead[c], lruHead[oldestClass]))) {
+                oldestClass = c;
+            }
+        }
+        if (lruHead[cls] != NIL && (oldestClass == NIL || !older(lruHead[oldestClass], lruHead[cls]))) {
+            removeEntry(lruHead[cls]);
+            evictions++;
+            return;
+        }
+        movePage(entryLocation[lruHead[oldestClass]] >>> 16, oldestClass, cls);
+    }
+    
+    private void movePage(int page, int from, int to) {
+        releasePage(page, from);
+        assignPage(page, to);
+        rebalances++;
+    }
+    
+    // Wrap-safe: true if entry a was last used before entry b
+    private boolean older(int a, int b) {
+        return entryTick[a] - entryTick[b] < 0;
+    }
+    
+    // Evict every entry in page and drop its free chunks from the old class
+    private void releasePage(int page, int cls) {
+        ByteBuffer buffer = pages[page];
+        int chunks = pageSize / chunkSize[cls];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int owner = buffer.getInt(chunk * chunkSize[cls]);
+            if (owner != NIL) {
+                removeEntry(owner);
+                evictions++;
+            }
+        }
+        int kept = 0;
+        int[] free = freeChunks[cls];
+        for (int i = 0; i < freeCount[cls]; i++) {
+            if (free[i] >>> 16 != page) {
+                free[kept++] = free[i];
+            }
+        }
+        freeCount[cls] = kept;
+        classPages[cls]--;
+    }
+    
+    // Carve page into chunks of cls; push them so chunk 0 is used first
+    private void assignPage(int page, int cls) {
+        pageClass[page] = (byte) cls;
+        classPages[cls]++;
+        int chunks = pageSize / chunkSize[cls];
+        int total = classPages[cls] * chunks;  // Every chunk of the class may be free at once
+        if (freeChunks[cls].length < total) {
+            freeChunks[cls] = Arrays.copyOf(freeChunks[cls], Math.max(freeChunks[cls].length * 2, total));
+        }
+        ByteBuffer buffer = pages[page];
+        for (int chunk = chunks - 1; chunk >= 0; chunk--) {
+            buffer.putInt(chunk * chunkSize[cls], NIL);
+            freeChunks[cls][freeCount[cls]++] = page << 16 | chunk;
+        }
+    }
+    
+    /**
+     * ENTRIES AND PER-CLASS LRU LISTS
+     */
+    
+    private int newEntry(int key, int cls, int location) {
+        int entry;
+        if (freeEntry != NIL) {
+            entry = freeEntry;
+            freeEntry = entryNext[entry];
+        } else {
+            if (entryHighWater == entryKey.length) {
+                int capacity = entryKey.length * 2;
+                entryKey = Arrays.copyOf(entryKey, capacity);
+                entryLocation = Arrays.copyOf(entryLocation, capacity);
+                entryLength = Arrays.copyOf(entryLength, capacity);
+                entryPrev = Arrays.copyOf(entryPrev, capacity);
+                entryNext = Arrays.copyOf(entryNext, capacity);
+                entryTick = Arrays.copyOf(entryTick, capacity);
+                entryClass = Arrays.copyOf(entryClass, capacity);
+            }
+            entry = entryHighWater++;
+        }
+        entryKey[entry] = key;
+        entryLocation[entry] = location;
+        entryLength[entry] = 0;
+        entryClass[entry] = (byte) cls;
+        linkLast(entry);
+        return entry;
+    }
+    
+    private void removeEntry(int entry) {
+        int cls = entryClass[entry];
+        int location = entryLocation[entry];
+        pages[location >>> 16].putInt((location & 0xFFFF) * chunkSize[cls], NIL);
+        freeChunks[cls][freeCount[cls]++] = location;
+        usedChunks[cls]--;
+        classStoredBytes[cls] -= entryLength[entry];
+        storedBytes -= entryLength[entry];
+        unlink(entry);
+        indexRemove(entryKey[entry]);
+        size--;
+        entryNext[entry] = freeEntry;
+        freeEntry = entry;
+    }
+    
+    private void linkLast(int entry) {
+        int cls = entryClass[entry];
+        entryTick[entry] = ++clock;
+        entryPrev[entry] = lruTail[cls];
+        entryNext[entry] = NIL;
+        if (lruTail[cls] == NIL) {
+            lruHead[cls] = entry;
+        } else {
+            entryNext[lruTail[cls]] = entry;
+        }
+        lruTail[cls] = entry;
+    }
+    
+    private void unlink(int entry) {
+        int cls = entryClass[entry];
+        int prev = entryPrev[entry];
+        int next = entryNext[entry];
+        if (prev == NIL) {
+            lruHead[cls] = next;
+        } else {
+            entryNext[prev] = next;
+        }
+        if (next == NIL) {
+            lruTail[cls] = prev;
+        } else {
+            entryPrev[next] = prev;
+        }
+    }
+    
+    private void touch(int entry) {
+        unlink(entry);
+        linkLast(entry);
+    }
+    
+    /**
+     * PRIMITIVE INDEX - linear probing with backward-shift deletion (no tombstones)
+     */
+    
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (indexKeys.length - 1);
+    }
+    
+    private int find(int key) {
+        int mask = indexKeys.length - 1;
+        for (int i = slot(key); indexEntries[i] != NIL; i = (i + 1) & mask) {
+            if (indexKeys[i] == key) {
+                return indexEntries[i];
+            }
+        }
+        return NIL;
+    }
+    
+    private void indexPut(int key, int entry) {
+        if ((size + 1) * 2 > indexKeys.length) {
+            int[] oldKeys = indexKeys;
+            int[] oldEntries = indexEntries;
+            indexKeys = new int[oldKeys.length * 2];
+            indexEntries = filled(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldEntries[i] != NIL) {
+                    indexPut(oldKeys[i], oldEntries[i]);
+                }
+            }
+        }
+        int mask = indexKeys.length - 1;
+        int i = slot(key);
+        while (indexEntries[i] != NIL) {
+            i = (i + 1) & mask;
+        }
+        indexKeys[i] = key;
+        indexEntries[i] = entry;
+    }
+    
+    private void indexRemove(int key) {
+        int mask = indexKeys.length - 1;
+        int hole = slot(key);
+        while (indexKeys[hole] != key || indexEntries[hole] == NIL) {
+            hole = (hole + 1) & mask;
+        }
+        // Pull back later entries of the probe run that may not sit past the hole
+        for (int i = (hole + 1) & mask; indexEntries[i] != NIL; i = (i + 1) & mask) {
+            int home = slot(indexKeys[i]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                indexKeys[hole] = indexKeys[i];
+                indexEntries[hole] = indexEntries[i];
+                hole = i;
+            }
+        }
+        indexEntries[hole] = NIL;
+    }
+    
+    /**
+     * STATS - slab utilization and fragmentation
+     */
+    
+    public Stats stats() {
+        List<SlabClass> classes = new ArrayList<>();
+        for (int c = 0; c < chunkSize.length; c++) {
+            if (classPages[c] > 0) {
+                classes.add(new SlabClass(chunkSize[c], classPages[c], usedChunks[c],
+                        classPages[c] * (pageSize / chunkSize[c]), classStoredBytes[c]));
+            }
+        }
+        return new Stats(classes, size, storedBytes, (long) allocatedPages * pageSize, allocatedPages, maxPages,
+                hits, misses, evictions, rebalances, heapIndexBytes());
+    }
+    
+    // Snapshot of one slab class that owns at least one page
+    public static final class SlabClass {
+        public final int chunkSize;
+        public final int pages;
+        public final int usedChunks;
+        public final int totalChunks;
+        public final long storedBytes;   // Value bytes (with header) in the used chunks
+        
+        SlabClass(int chunkSize, int pages, int usedChunks, int totalChunks, long storedBytes) {
+            this.chunkSize = chunkSize;
+            this.pages = pages;
+            this.usedChunks = usedChunks;
+            this.totalChunks = totalChunks;
+            this.storedBytes = storedBytes;
+        }
+        
+        public long usedChunkBytes() {
+            return (long) usedChunks * chunkSize;
+        }
+        
+        // Fraction of the class's chunks in use
+        public double utilization() {
+            return totalChunks == 0 ? 0.0 : (double) usedChunks / totalChunks;
+        }
+        
+        // Fraction of used chunk bytes not holding data
+        public double internalFragmentation() {
+            long used = usedChunkBytes();
+            return used == 0 ? 0.0 : 1 - (double) storedBytes / used;
+        }
+    }
+    
+    // Snapshot of the cache's slabs and counters
+    public static final class Stats {
+        public final List<SlabClass> classes;
+        public final int size;
+        public final long storedBytes;
+        public final long chunkBytes;      // Bytes of all used chunks
+        public final long allocatedBytes;  // Bytes of all allocated pages
+        public final int allocatedPages;
+        public final int maxPages;
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long rebalances;      // Pages moved between slab classes
+        public final long heapIndexBytes;
+        
+        Stats(List<SlabClass> classes, int size, long storedBytes, long allocatedBytes, int allocatedPages, int maxPages,
+              long hits, long misses, long evictions, long rebalances, long heapIndexBytes) {
+            this.classes = Collections.unmodifiableList(classes);
+            this.size = size;
+            this.storedBytes = storedBytes;
+            long chunks = 0;
+            for (SlabClass slab : classes) {
+                chunks += slab.usedChunkBytes();
+            }
+            this.chunkBytes = chunks;
+            this.allocatedBytes = allocatedBytes;
+            this.allocatedPages = allocatedPages;
+            this.maxPages = maxPages;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.rebalances = rebalances;
+            this.heapIndexBytes = heapIndexBytes;
+        }
+        
+        // Fraction of used chunk bytes not holding data
+        public double internalFragmentation() {
+            return chunkBytes == 0 ? 0.0 : 1 - (double) storedBytes / chunkBytes;
+        }
+        
+        // Fraction of allocated page bytes in free chunks
+        public double freeChunkFraction() {
+            return allocatedBytes == 0 ? 0.0 : (double) (allocatedBytes - chunkBytes) / allocatedBytes;
+        }
+        
+        // Fraction of allocated page bytes holding data
+        public double utilization() {
+            return allocatedBytes == 0 ? 0.0 : (double) storedBytes / allocatedBytes;
+        }
+        
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d evictions=%d rebalances=%d size=%d storedBytes=%d allocatedBytes=%d"
+                    + " internalFragmentation=%.1f%% utilization=%.1f%%", hits, misses, evictions, rebalances, size,
+                    storedBytes, allocatedBytes, 100 * internalFragmentation(), 100 * utilization());
+        }
+    }
+    
+    // Formats a stats() snapshot: one row per slab class, then the totals
+    public void printStats() {
+        Stats stats = stats();
+        System.out.printf("%8s %6s %14s %12s %12s%n", "Chunk", "Pages", "Chunks used", "Utilization", "Internal");
+        for (SlabClass slab : stats.classes) {
+            System.out.printf("%8d %6d %7d/%-6d %11.1f%% %11.1f%%%n", slab.chunkSize, slab.pages, slab.usedChunks,
+                    slab.totalChunks, 100 * slab.utilization(), 100 * slab.internalFragmentation());
+        }
+        System.out.printf("Entries %,d, stored %,d bytes in %,d allocated (%d of %d pages)%n",
+                stats.size, stats.storedBytes, stats.allocatedBytes, stats.allocatedPages, stats.maxPages);
+        System.out.printf("Internal fragmentation %.1f%% (chunk bytes not holding data), free chunks %.1f%%, overall utilization %.1f%%%n",
+                100 * stats.internalFragmentation(), 100 * stats.freeChunkFraction(), 100 * stats.utilization());
+        System.out.printf("Hits %,d, misses %,d, evictions %,d, page rebalances %,d, heap index %,d bytes%n",
+                stats.hits, stats.misses, stats.evictions, stats.rebalances, stats.heapIndexBytes);
+    }
+    
+    // Heap arrays backing the index and entry metadata
+    public long heapIndexBytes() {
+        return 8L * indexKeys.length + 25L * entryKey.length;
+    }
+    
+    /**
+     * MAIN METHOD - Multi-KB payloads under a 64 MB budget
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Off-Heap LRU Cache Demo ===\n");
+        
+        OffHeapLRUCache cache = new OffHeapLRUCache(64L << 20);
+        cache.put(1, "one");
+        cache.put(2, "two – UTF-8 ✓");
+        System.out.println("get(1) = " + cache.get(1) + ", get(2) = " + cache.get(2) + ", get(3) = " + cache.get(3));
+        cache.remove(1);
+        cache.remove(2);
+        
+        // Payloads of 1-16 KB, 100,000 keys with a hot subset: far more than 64 MB in total
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 16_384) {
+            text.append("payload-").append(text.length()).append(' ');
+        }
+        String source = text.toString();
+        for (int i = 0; i < 400_000; i++) {
+            int key = random.nextInt(10) < 8 ? random.nextInt(2_000) : random.nextInt(100_000);
+            String value = cache.get(key);
+            if (value == null) {
+                int length = 1_024 + (key * 7919) % 15_360;  // Same key, same payload size
+                cache.put(key, key + ":" + source.substring(0, length));
+            } else if (!value.startsWith(key + ":")) {
+                throw new IllegalStateException("Wrong value for key " + key);
+            }
+        }
+        System.out.println("\nAfter 400,000 cache-aside reads (80% on 2,000 hot keys):");
+        cache.printStats();
+        
+        // Values change size: the entry moves between slab classes
+        cache.put(7, "short");
+        cache.put(7, source.substring(0, 10_000));
+        System.out.println("\nResized key 7 to " + cache.get(7).length() + " chars; stored bytes now " + cache.storedBytes());
+        Stats stats = cache.stats();
+        System.out.printf("stats(): %d slab classes in use, hit rate %.1f%%, %s%n",
+                stats.classes.size(), 100 * stats.hitRate(), stats);
+        
+        // Same data on the heap
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        AdvancedCollections.LRUCache onHeap = new AdvancedCollections.LRUCache(cache.size());
+        for (int key = 0; key < 100_000 && key < cache.size(); key++) {
+            onHeap.put(key, key + ":" + source.substring(0, 1_024 + (key * 7919) % 15_360));
+        }
+        System.gc();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory() - before;
+        Reference.reachabilityFence(onHeap);
+        System.out.printf("%nLRUCache with %,d similar entries: %,d heap bytes vs %,d for this cache's index%n",
+                cache.size(), heapUsed, cache.heapIndexBytes());
+    }
+}
+
+/*
+OFF-HEAP LRU CACHE KEY CONCEPTS:
+
+WHY OFF-HEAP:
+- GC time grows with live heap; large long-lived values are pure GC overhead
+- Direct ByteBuffers live outside the heap: the GC sees one small object per page
+- Budget in bytes, not entries: memory use is predictable whatever the value sizes
+
+SLAB ALLOCATOR (memcached):
+- Pages (1 MB) are assigned to a class and carved into equal chunks
+- Classes grow by ~1.25x (64, 80, 104, ... up to a page)
+- No external fragmentation: any free chunk of a class fits any value of that class
+- Internal fragmentation: value + header < chunk size (at most ~20% with 1.25x)
+
+EVICTION BY BYTES:
+- New page while under budget
+- Otherwise evict the LRU entry of the value's class...
+- ...unless another class holds older data: move that class's oldest page over
+  (evicting its entries) - rebalancing keeps one approximate LRU across classes
+
+COMPACT HEAP INDEX:
+- Open addressing int -> entry id, entry fields in parallel int arrays
+- No per-entry objects: no headers, no pointers for the GC to trace
+- Chunk header stores the owner entry id, so emptying a page needs no reverse map
+*/
\ No newline at end of file
@@ -0,0 +1,457 @@
+/**
+ * Policy Cache - LRUCache's get/put API with a pluggable eviction policy
+ *
+ * AdvancedCollections.LRUCache always evicts the least recently used entry. A scan of
+ * keys that are used once ("one-hit wonders") is, by recency, the most valuable data in
+ * the cache, so a single batch job can flush every hot entry. This cache delegates the
+ * residency decision to a Policy:
+ * - LRU: recency only (same as LRUCache)
+ * - LFU: frequency only (slow to forget entries that were popular long ago)
+ * - W-TinyLFU: a small LRU window absorbs new keys; a key leaving the window only enters
+ *   the main region if a 4-bit count-min sketch says it's used more often than the
+ *   entry it would evict. Counters are halved periodically, so old popularity fades
+ */
+
+import java.util.*;
+
+public class PolicyCache<K, V> {
+    
+    /**
+     * POLICY - decides which keys stay resident
+     */
+    public interface Policy<K> {
+        // key is resident and was just accessed
+        void recordHit(K key);
+        
+        // key is not resident and is being added; returns the key evicted to make room, or null
+        K admit(K key);
+        
+        // key was removed from the cache explicitly
+        void remove(K key);
+        
+        String name();
+    }
+    
+    private final Map<K, V> values = new HashMap<>();
+    private final Policy<K> policy;
+    private final int capacity;
+    private long hits;
+    private long misses;
+    private long evictions;
+    
+    // Constructor
+    public PolicyCache(int capacity, Policy<K> policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+    
+    public static <K, V> PolicyCache<K, V> lru(int capacity) {
+        return new PolicyCache<>(capacity, new LruPolicy<>(capacity));
+    }
+    
+    public static <K, V> PolicyCache<K, V> lfu(int capacity) {
+        return new PolicyCache<>(capacity, new LfuPolicy<>(capacity));
+    }
+    
+    public static <K, V> PolicyCache<K, V> windowTinyLfu(int capacity) {
+        return new PolicyCache<>(capacity, new WindowTinyLfuPolicy<>(capacity));
+    }
+    
+    // Get - O(1)
+    public V get(K key) {
+        V value = values.get(key);
+        if (value == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        policy.recordHit(key);
+        return value;
+    }
+    
+    // Put - O(1); counts as an access to an existing key, like LRUCache
+    public void put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        if (values.containsKey(key)) {
+            values.put(key, value);
+            policy.recordHit(key);
+            return;
+        }
+        values.put(key, value);
+        K victim = policy.admit(key);
+        if (victim != null) {
+            values.remove(victim);
+            evictions++;
+        }
+    }
+    
+    public V remove(K key) {
+        V value = values.remove(key);
+        if (value != null) {
+            policy.remove(key);
+        }
+        return value;
+    }
+    
+    public int size() {
+        return values.size();
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    public String policyName() {
+        return policy.name();
+    }
+    
+    public long hits() {
+        return hits;
+    }
+    
+    public long misses() {
+        return misses;
+    }
+    
+    public long evictions() {
+        return evictions;
+    }
+    
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+    
+    @Override
+    public String toString() {
+        return policy.name() + values;
+    }
+    
+    /**
+     * LRU - evict the least recently used key
+     */
+    static final class LruPolicy<K> implements Policy<K> {
+        private final LinkedHashMap<K, Boolean> order = new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+        
+        LruPolicy(int capacity) {
+            this.capacity = capacity;
+        }
+        
+        @Override
+        public void recordHit(K key) {
+            order.get(key);  // Access order: moves key to the most recent end
+        }
+        
+        @Override
+        public K admit(K key) {
+            order.put(key, Boolean.TRUE);
+            return order.size() > capacity ? removeEldest(order) : null;
+        }
+        
+        @Override
+        public void remove(K key) {
+            order.remove(key);
+        }
+        
+        @Override
+        public String name() {
+            return "LRU";
+        }
+    }
+    
+    private static <K> K removeEldest(LinkedHashMap<K, Boolean> map) {
+        Iterator<K> it = map.keySet().iterator();
+        K eldest = it.next();
+        it.remove();
+        return eldest;
+    }
+    
+    /**
+     * LFU - evict the least frequently used key (oldest first among ties), O(1) per access
+     */
+    static final class LfuPolicy<K> implements Policy<K> {
+        private final Map<K, Integer> counts = new HashMap<>();
+        private final Map<Integer, LinkedHashSet<K>> buckets = new HashMap<>();  // Frequency -> keys in arrival order
+        private final int capacity;
+        private int minFrequency;
+        
+        LfuPolicy(int capacity) {
+            this.capacity = capacity;
+        }
+        
+        private void unlinkFromBucket(K key, int frequency) {
+            LinkedHashSet<K> bucket = buckets.get(frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.remove(frequency);
+            }
+        }
+        
+        @Override
+        public void recordHit(K key) {
+            int frequency = counts.get(key);
+            unlinkFromBucket(key, frequency);
+            if (frequency == minFrequency && !buckets.containsKey(frequency)) {
+                minFrequency++;
+            }
+            counts.put(key, frequency + 1);
+            buckets.computeIfAbsent(frequency + 1, f -> new LinkedHashSet<>()).add(key);
+        }
+        
+        @Override
+        public K admit(K key) {
+            K victim = null;
+            if (counts.size() >= capacity) {
+                while (!buckets.containsKey(minFrequency)) {
+                    minFrequency++;  // Only after remove(): the old minimum emptied
+                }
+                victim = buckets.get(minFrequency).iterator().next();
+                unlinkFromBucket(victim, minFrequency);
+                counts.remove(victim);
+            }
+            counts.put(key, 1);
+            buckets.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(key);
+            minFrequency = 1;
+            return victim;
+        }
+        
+        @Override
+        public void remove(K key) {
+            Integer frequency = counts.remove(key);
+            if (frequency != null) {
+                unlinkFromBucket(key, frequency);
+            }
+        }
+        
+        @Override
+        public String name() {
+            return "LFU";
+        }
+    }
+    
+    /**
+     * FREQUENCY SKETCH - 4-bit count-min sketch with periodic aging
+     *
+     * Each long holds sixteen 4-bit counters. A key maps to 4 counters (one per hash
+     * function); its estimated frequency is the smallest of them, which can only
+     * overestimate. After sampleSize increments every counter is halved
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0x97CB3127A9E1C4D5L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x9E3779B97F4A7C15L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;  // Clears each counter's top bit after >>> 1
+        private static final int MAX_COUNT = 15;
+        
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+        private int resets;
+        
+        FrequencySketch(int capacity) {
+            int length = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = 10 * Math.max(capacity, 16);
+        }
+        
+        private static int spread(Object key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+        
+        // Counter i of key: table index in the low bits, counter (0-15) in the high bits
+        private long slot(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h + (h >>> 32);
+        }
+        
+        public int frequency(Object key) {
+            int hash = spread(key);
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < 4; i++) {
+                long h = slot(hash, i);
+                int shift = (int) ((h >>> 40) & 15) << 2;
+                frequency = Math.min(frequency, (int) ((table[(int) h & tableMask] >>> shift) & 0xF));
+            }
+            return frequency;
+        }
+        
+        public void increment(Object key) {
+            int hash = spread(key);
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                long h = slot(hash, i);
+                int index = (int) h & tableMask;
+                int shift = (int) ((h >>> 40) & 15) << 2;
+                if (((table[index] >>> shift) & 0xF) < MAX_COUNT) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+        
+        // Aging: halve every counter so yesterday's hot keys can be displaced - O(table)
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+            resets++;
+        }
+        
+        public int resets() {
+            return resets;
+        }
+    }
+    
+    /**
+     * W-TINYLFU - admission window (1%) + segmented LRU main region (80% protected)
+     */
+    static final class WindowTinyLfuPolicy<K> implements Policy<K> {
+        private final LinkedHashMap<K, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Boolean> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Boolean> protectedRegion = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final int protectedCapacity;
+        
+        WindowTinyLfuPolicy(int capacity) {
+            this(capacity, 0.01, 0.8);
+        }
+        
+        // windowFraction of the capacity is the LRU window; protectedFraction of the rest is protected
+        WindowTinyLfuPolicy(int capacity, double windowFraction, double protectedFraction) {
+            windowCapacity = Math.max(1, (int) (capacity * windowFraction));
+            mainCapacity = capacity - windowCapacity;
+            protectedCapacity = (int) (mainCapacity * protectedFraction);
+            sketch = new FrequencySketch(capacity);
+        }
+        
+        @Override
+        public void recordHit(K key) {
+            sketch.increment(key);
+            if (window.get(key) != null || protectedRegion.get(key) != null) {
+                return;  // Access order already moved it to the most recent end
+            }
+            // Second access while on probation: promote, demoting protected overflow
+            probation.remove(key);
+            protectedRegion.put(key, Boolean.TRUE);
+            if (protectedRegion.size() > protectedCapacity) {
+                probation.put(removeEldest(protectedRegion), Boolean.TRUE);
+            }
+        }
+        
+        @Override
+        public K admit(K key) {
+            sketch.increment(key);
+            window.put(key, Boolean.TRUE);
+            if (window.size() <= windowCapacity) {
+                return null;
+            }
+            // The window's LRU entry is a candidate for the main region
+            K candidate = removeEldest(window);
+            if (probation.size() + protectedRegion.size() < mainCapacity) {
+                probation.put(candidate, Boolean.TRUE);
+                return null;
+            }
+            if (probation.isEmpty()) {
+                return candidate;  // No main region to compete for
+            }
+            K victim = probation.keySet().iterator().next();
+            if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                probation.remove(victim);
+                probation.put(candidate, Boolean.TRUE);
+                return victim;
+            }
+            return candidate;  // Not popular enough: the one-hit wonder leaves, the main region is untouched
+        }
+        
+        @Override
+        public void remove(K key) {
+            if (window.remove(key) == null && probation.remove(key) == null) {
+                protectedRegion.remove(key);
+            }
+        }
+        
+        @Override
+        public String name() {
+            return "W-TinyLFU";
+        }
+        
+        public int sketchResets() {
+            return sketch.resets();
+        }
+    }
+    
+    /**
+     * MAIN METHOD - A scan flushes LRU but not W-TinyLFU
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Policy Cache Demo ===\n");
+        
+        // Same sequence as AdvancedCollections.advancedPatterns(): LRU evicts 2
+        PolicyCache<Integer, String> lru = PolicyCache.lru(3);
+        lru.put(1, "one");
+        lru.put(2, "two");
+        lru.put(3, "three");
+        lru.get(1);
+        lru.put(4, "four");
+        System.out.println("After access and insert: " + lru);
+        
+        // 100 hot keys read repeatedly, interrupted by scans of 1,000 fresh keys
+        for (String policy : new String[]{"LRU", "LFU", "W-TinyLFU"}) {
+            PolicyCache<Integer, String> cache = policy.equals("LRU") ? PolicyCache.lru(200)
+                    : policy.equals("LFU") ? PolicyCache.lfu(200) : PolicyCache.windowTinyLfu(200);
+            int scanKey = 1_000_000;
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 20; i++) {
+                    for (int hot = 0; hot < 100; hot++) {
+                        if (cache.get(hot) == null) {
+                            cache.put(hot, "hot" + hot);
+                        }
+                    }
+                }
+                for (int i = 0; i < 1000; i++, scanKey++) {
+                    if (cache.get(scanKey) == null) {
+                        cache.put(scanKey, "scan");
+                    }
+                }
+            }
+            System.out.printf("%-10s hit rate %.1f%%, evictions %d%n", cache.policyName(), 100 * cache.hitRate(), cache.evictions());
+        }
+        System.out.println("\nTrace-driven comparison: java CacheTraceSimulator [trace files]");
+    }
+}
+
+/*
+POLICY CACHE KEY CONCEPTS:
+
+RECENCY VS FREQUENCY:
+- LRU: great for bursts, but one scan of new keys evicts everything hot
+- LFU: scan-resistant, but keys popular long ago never leave (no aging)
+- W-TinyLFU: recency for newcomers (window), frequency to get into the main region
+
+W-TINYLFU FLOW:
+1. New key -> window LRU (1% of capacity)
+2. Window overflow -> its LRU key is a candidate
+3. Main region full -> candidate vs probation's LRU victim:
+   higher sketch frequency wins; the loser is evicted
+4. Hit on probation -> promoted to protected (80% of main); protected overflow
+   is demoted back to probation
+
+COUNT-MIN SKETCH:
+- 4 counters per key, 4 bits each, 16 counters per long
+- Estimate = min of the 4 (collisions only add, so min is the least wrong)
+- Aging: after 10 x capacity increments, halve all counters
+- Memory: ~8 bytes per cache entry, independent of how many keys were ever seen
+*/
\ No newline at end of file
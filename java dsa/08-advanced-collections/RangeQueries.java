@@ -0,0 +1,397 @@
+/**
+ * Range Queries - Fenwick tree and lazy segment tree behind the RangeSumQuery API
+ *
+ * AdvancedCollections.RangeSumQuery walks a TreeMap subMap on every sumRange, so a
+ * query costs O(log n + k) over boxed entries. For a fixed index range [0, n) two
+ * array-backed trees answer in O(log n) with no allocation:
+ * - FenwickTree (binary indexed tree): point update and prefix sums in one int[] or
+ *   long[]; the smallest and fastest choice when only sums are needed
+ * - LazySegmentTree: range add plus range sum/min/max; pending adds are stored on
+ *   inner nodes (lazy propagation) and pushed to children only when a query or update
+ *   descends through them
+ *
+ * Both build from an int[] in O(n). sumRangeLong is the exact 64-bit sum everywhere
+ * it is offered; sumRange wraps in int mode (like the TreeMap version) and throws
+ * ArithmeticException in long-accumulator mode when the result does not fit an int
+ */
+
+import java.util.*;
+
+public class RangeQueries {
+    
+    // The RangeSumQuery API: update sets the value at index, ranges are inclusive
+    interface RangeSum {
+        void update(int index, int val);
+        
+        // int result; overflow behaviour depends on the implementation
+        int sumRange(int left, int right);
+        
+        // Exact 64-bit sum, the same answer from every implementation for the same data.
+        // An int-mode FenwickTree only stores wrapped sums, so it throws
+        // UnsupportedOperationException instead of returning a truncated value
+        long sumRangeLong(int left, int right);
+    }
+    
+    /**
+     * FENWICK TREE - tree[i] holds the sum of (i & -i) values ending at position i (1-based)
+     */
+    static class FenwickTree implements RangeSum {
+        private final int n;
+        private final long[] values;    // Current values, to turn update (set) into an add
+        private final int[] tree;       // int mode: wraps on overflow
+        private final long[] longTree;  // Long-accumulator mode
+        
+        public FenwickTree(int n, boolean longAccumulator) {
+            this(new int[n], longAccumulator);
+        }
+        
+        // Bulk build - O(n): each node adds itself to its parent once
+        public FenwickTree(int[] initial, boolean longAccumulator) {
+            n = initial.length;
+            values = new long[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = initial[i];
+            }
+            if (longAccumulator) {
+                tree = null;
+                longTree = new long[n + 1];
+                for (int i = 1; i <= n; i++) {
+                    longTree[i] += values[i - 1];
+                    int parent = i + (i & -i);
+                    if (parent <= n) {
+                        longTree[parent] += longTree[i];
+                    }
+                }
+            } else {
+                longTree = null;
+                tree = new int[n + 1];
+                for (int i = 1; i <= n; i++) {
+                    tree[i] += initial[i - 1];
+                    int parent = i + (i & -i);
+                    if (parent <= n) {
+                        tree[parent] += tree[i];
+                    }
+                }
+            }
+        }
+        
+        // Set value - O(log n)
+        public void update(int index, int val) {
+            Objects.checkIndex(index, n);
+            add(index, val - values[index]);
+        }
+        
+        // Add delta at index - O(log n); values stay exact so a later update sets the value
+        public void add(int index, long delta) {
+            Objects.checkIndex(index, n);
+            values[index] += delta;
+            if (longTree != null) {
+                for (int i = index + 1; i <= n; i += i & -i) {
+                    longTree[i] += delta;
+                }
+            } else {
+                for (int i = index + 1; i <= n; i += i & -i) {
+                    tree[i] += (int) delta;
+                }
+            }
+        }
+        
+        // Sum of values [0, end) - O(log n)
+        public long prefixSum(int end) {
+            long sum = 0;
+            if (longTree != null) {
+                for (int i = end; i > 0; i -= i & -i) {
+                    sum += longTree[i];
+                }
+            } else {
+                int intSum = 0;
+                for (int i = end; i > 0; i -= i & -i) {
+                    intSum += tree[i];
+                }
+                sum = intSum;
+            }
+            return sum;
+        }
+        
+        public long sumRangeLong(int left, int right) {
+            if (longTree == null) {
+                throw new UnsupportedOperationException("Int-mode FenwickTree keeps wrapped sums; "
+                        + "build it with longAccumulator = true for sumRangeLong");
+            }
+            Objects.checkFromToIndex(left, right + 1, n);
+            return prefixSum(right + 1) - prefixSum(left);
+        }
+        
+        public int sumRange(int left, int right) {
+            Objects.checkFromToIndex(left, right + 1, n);
+            long sum = prefixSum(right + 1) - prefixSum(left);
+            return longTree != null ? Math.toIntExact(sum) : (int) sum;
+        }
+        
+        public int size() {
+            return n;
+        }
+    }
+    
+    /**
+     * LAZY SEGMENT TREE - heap layout over a power-of-two leaf count; node i has
+     * children 2i and 2i + 1, leaves start at index capacity
+     */
+    static class LazySegmentTree implements RangeSum {
+        private final int n;
+        private final int capacity;
+        private final long[] sum;
+        private final long[] min;
+        private final long[] max;
+        private final long[] lazy;        // Pending add for every value below the node
+        private final boolean longAccumulator;
+        
+        public LazySegmentTree(int n, boolean longAccumulator) {
+            this(new int[n], longAccumulator);
+        }
+        
+        // Bulk build - O(n): fill the leaves, then each inner node from its children
+        public LazySegmentTree(int[] initial, boolean longAccumulator) {
+            this.n = initial.length;
+            this.longAccumulator = longAccumulator;
+            this.capacity = Integer.highestOneBit(Math.max(n, 1) * 2 - 1);
+            sum = new long[2 * capacity];
+            min = new long[2 * capacity];
+            max = new long[2 * capacity];
+            lazy = new long[2 * capacity];
+            for (int i = 0; i < capacity; i++) {
+                sum[capacity + i] = i < n ? initial[i] : 0;
+                min[capacity + i] = i < n ? initial[i] : Long.MAX_VALUE;  // Padding never wins
+                max[capacity + i] = i < n ? initial[i] : Long.MIN_VALUE;
+            }
+            for (int node = capacity - 1; node >= 1; node--) {
+                pull(node);
+            }
+        }
+        
+        private void pull(int node) {
+            sum[node] = sum[2 * node] + sum[2 * node + 1];
+            min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+            max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+        }
+        
+        // Add delta to every value of a node covering length positions
+        private void apply(int node, int length, long delta) {
+            sum[node] += delta * length;
+            min[node] += delta;
+            max[node] += delta;
+            if (node < capacity) {
+                lazy[node] += delta;
+            }
+        }
+        
+        private void push(int node, int length) {
+            if (lazy[node] != 0) {
+                apply(2 * node, length / 2, lazy[node]);
+                apply(2 * node + 1, length / 2, lazy[node]);
+                lazy[node] = 0;
+            }
+        }
+        
+        // Set value - O(log n)
+        public void update(int index, int val) {
+            Objects.checkIndex(index, n);
+            set(1, 0, capacity - 1, index, val);
+        }
+        
+        private void set(int node, int lo, int hi, int index, int val) {
+            if (lo == hi) {
+                sum[node] = min[node] = max[node] = val;
+                return;
+            }
+            push(node, hi - lo + 1);
+            int mid = (lo + hi) >>> 1;
+            if (index <= mid) {
+                set(2 * node, lo, mid, index, val);
+            } else {
+                set(2 * node + 1, mid + 1, hi, index, val);
+            }
+            pull(node);
+        }
+        
+        // Add delta to every value in [left, right] - O(log n)
+        public void add(int left, int right, long delta) {
+            Objects.checkFromToIndex(left, right + 1, n);
+            add(1, 0, capacity - 1, left, right, delta);
+        }
+        
+        private void add(int node, int lo, int hi, int left, int right, long delta) {
+            if (right < lo || hi < left) {
+                return;
+            }
+            if (left <= lo && hi <= right) {
+                apply(node, hi - lo + 1, delta);
+                return;
+            }
+            push(node, hi - lo + 1);
+            int mid = (lo + hi) >>> 1;
+            add(2 * node, lo, mid, left, right, delta);
+            add(2 * node + 1, mid + 1, hi, left, right, delta);
+            pull(node);
+        }
+        
+        private static final int SUM = 0, MIN = 1, MAX = 2;
+        
+        // Combine the nodes covering [left, right] - O(log n)
+        private long query(int node, int lo, int hi, int left, int right, int kind) {
+            if (left <= lo && hi <= right) {
+                return kind == SUM ? sum[node] : kind == MIN ? min[node] : max[node];
+            }
+            push(node, hi - lo + 1);
+            int mid = (lo + hi) >>> 1;
+            if (right <= mid) {
+                return query(2 * node, lo, mid, left, right, kind);
+            }
+            if (left > mid) {
+                return query(2 * node + 1, mid + 1, hi, left, right, kind);
+            }
+            long a = query(2 * node, lo, mid, left, right, kind);
+            long b = query(2 * node + 1, mid + 1, hi, left, right, kind);
+            return kind == SUM ? a + b : kind == MIN ? Math.min(a, b) : Math.max(a, b);
+        }
+        
+        private long query(int left, int right, int kind) {
+            Objects.checkFromToIndex(left, right + 1, n);
+            return query(1, 0, capacity - 1, left, right, kind);
+        }
+        
+        // Exact in both modes: the nodes always hold 64-bit sums
+        public long sumRangeLong(int left, int right) {
+            return query(left, right, SUM);
+        }
+        
+        public int sumRange(int left, int right) {
+            long sum = query(left, right, SUM);
+            return longAccumulator ? Math.toIntExact(sum) : (int) sum;
+        }
+        
+        public long minRange(int left, int right) {
+            return query(left, right, MIN);
+        }
+        
+        public long maxRange(int left, int right) {
+            return query(left, right, MAX);
+        }
+        
+        public int size() {
+            return n;
+        }
+    }
+    
+    /**
+     * MAIN METHOD
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Range Queries Demo ===\n");
+        
+        // Same calls as the TreeMap RangeSumQuery demo
+        List<RangeSum> structures = List.of(new AdvancedCollections.RangeSumQuery(),
+                new FenwickTree(8, false), new LazySegmentTree(8, false));
+        for (RangeSum rsq : structures) {
+            rsq.update(1, 10);
+            rsq.update(3, 20);
+            rsq.update(5, 30);
+            rsq.update(7, 40);
+            System.out.println(rsq.getClass().getSimpleName() + " range sum [3, 7]: " + rsq.sumRange(3, 7));
+        }
+        
+        // Range add with min/max
+        LazySegmentTree segment = new LazySegmentTree(new int[]{5, 3, 8, 6, 1, 9, 2, 7}, false);
+        segment.add(2, 5, 10);
+        System.out.println("\nAfter adding 10 to [2, 5]: sum " + segment.sumRange(0, 7)
+                + ", min " + segment.minRange(0, 7) + ", max " + segment.maxRange(2, 5));
+        
+        // Overflow: int mode wraps, long mode is exact and sumRange refuses to truncate
+        int[] big = new int[4];
+        Arrays.fill(big, Integer.MAX_VALUE);
+        FenwickTree wrapping = new FenwickTree(big, false);
+        FenwickTree exact = new FenwickTree(big, true);
+        System.out.println("\n4 x Integer.MAX_VALUE: int mode " + wrapping.sumRange(0, 3)
+                + ", long mode " + exact.sumRangeLong(0, 3));
+        try {
+            exact.sumRange(0, 3);
+        } catch (ArithmeticException e) {
+            System.out.println("Long mode sumRange: " + e.getMessage() + " (use sumRangeLong)");
+        }
+        AdvancedCollections.RangeSumQuery treeMapBig = new AdvancedCollections.RangeSumQuery();
+        for (int i = 0; i < big.length; i++) {
+            treeMapBig.update(i, big[i]);
+        }
+        System.out.println("sumRangeLong: TreeMap " + treeMapBig.sumRangeLong(0, 3)
+                + ", int-mode segment tree " + new LazySegmentTree(big, false).sumRangeLong(0, 3));
+        try {
+            wrapping.sumRangeLong(0, 3);
+        } catch (UnsupportedOperationException e) {
+            System.out.println("Int-mode Fenwick sumRangeLong: " + e.getMessage());
+        }
+        
+        // Mixed updates and queries over n = 100,000 (see RangeSumBenchmarks in the JMH module
+        // benchmarks/ for warmed-up measurements)
+        int n = 100_000;
+        Random random = new Random(1);
+        int[] initial = new int[n];
+        for (int i = 0; i < n; i++) {
+            initial[i] = random.nextInt(1_000);
+        }
+        AdvancedCollections.RangeSumQuery treeMap = new AdvancedCollections.RangeSumQuery();
+        for (int i = 0; i < n; i++) {
+            treeMap.update(i, initial[i]);
+        }
+        structures = List.of(treeMap, new FenwickTree(initial, true), new LazySegmentTree(initial, true));
+        System.out.println();
+        for (RangeSum rsq : structures) {
+            int ops = rsq == treeMap ? 2_000 : 1_000_000;
+            random = new Random(2);
+            long checksum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ops; i++) {
+                int a = random.nextInt(n);
+                int b = random.nextInt(n);
+                if ((i & 1) == 0) {
+                    rsq.update(a, b);
+                } else {
+                    checksum += rsq.sumRangeLong(Math.min(a, b), Math.max(a, b));
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf("%-14s %,10d ops %,10.0f ns/op (checksum %d)%n",
+                    rsq.getClass().getSimpleName(), ops, (double) nanos / ops, checksum);
+        }
+    }
+}
+
+/*
+RANGE QUERIES KEY CONCEPTS:
+
+FENWICK TREE (BINARY INDEXED TREE):
+- tree[i] = sum of the (i & -i) values ending at i (1-based)
+- Prefix sum: i -= i & -i (O(log n)); add: i += i & -i (O(log n))
+- Range [l, r] = prefix(r + 1) - prefix(l)
+- O(n) build: each node adds itself into its parent i + (i & -i)
+✅ n + 1 numbers, tight loops, fastest for point update + range sum
+❌ Sums only (min/max are not invertible), no range add in this form
+
+LAZY SEGMENT TREE:
+- Node covers a range; stores sum, min, max of it
+- Range add: stop at fully covered nodes, remember the add (lazy)
+- Push the pending add to children only when descending through the node
+✅ Range add + range sum/min/max, all O(log n)
+❌ 4 x 2n longs and recursion: slower than Fenwick for plain sums
+
+VS TREEMAP (RangeSumQuery):
+- subMap walk is O(log n + k): whole-array queries touch every entry
+- Boxed Integer per entry vs plain arrays
+✅ TreeMap still fits sparse, unbounded indices
+
+OVERFLOW:
+- sumRange in int mode wraps silently, like int arithmetic
+- sumRangeLong is exact for TreeMap, both segment tree modes and long-mode Fenwick;
+  int-mode Fenwick only stores wrapped sums, so it refuses instead of truncating
+- Long-accumulator mode: exact 64-bit sums; sumRange throws if the result
+  does not fit an int
+*/
\ No newline at end of file
@@ -153,28 +153,23 @@ public class SortingSearchingAlgorithms {
     
     /**
      * PERFORMANCE ANALYSIS
+     *
+     * Single timed runs of each sort were dominated by JIT warm-up and noise; measured
+     * numbers now come from the JMH module benchmarks/ (SortBenchmarks and
+     * QuadraticSortBenchmarks, sorted and random inputs)
      */
     public static void performanceAnalysis() {
         System.out.println("=== Performance Analysis ===");
         
-        int[] sizes = {1000, 5000, 10000};
+        System.out.println("Bubble Sort:    O(n²) average/worst, O(n) on sorted input");
+        System.out.println("Selection Sort: O(n²) always");
+        System.out.println("Insertion Sort: O(n²) average/worst, O(n) on sorted input");
+        System.out.println("Merge Sort:     O(n log n) always, O(n) extra space");
+        System.out.println("Quick Sort:     O(n log n) average, O(n²) on sorted input (last-element pivot)");
+        System.out.println("Heap Sort:      O(n log n) always, in place");
+        System.out.println("Measured ops/s and bytes/op: see benchmarks/README.md (JMH, -prof gc)");
         
-        for (int size : sizes) {
-            System.out.println("Array size: " + size);
-            
-            // Generate random array
-            int[] arr = generateRandomArray(size);
-            
-            // Test sorting algorithms
-            testSortingPerformance("Bubble Sort", arr.clone(), SortingSearchingAlgorithms::bubbleSort);
-            testSortingPerformance("Selection Sort", arr.clone(), SortingSearchingAlgorithms::selectionSort);
-            testSortingPerformance("Insertion Sort", arr.clone(), SortingSearchingAlgorithms::insertionSort);
-            testSortingPerformance("Merge Sort", arr.clone(), (array) -> mergeSort(array, 0, array.length - 1));
-            testSortingPerformance("Quick Sort", arr.clone(), (array) -> quickSort(array, 0, array.length - 1));
-            testSortingPerformance("Heap Sort", arr.clone(), SortingSearchingAlgorithms::heapSort);
-            
-            System.out.println();
-        }
+        System.out.println();
     }
     
     /**
@@ -678,28 +673,6 @@ public class SortingSearchingAlgorithms {
         arr[j] = temp;
     }
     
-    private static int[] generateRandomArray(int size) {
-        Random random = new Random();
-        int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = random.nextInt(1000);
-        }
-        return arr;
-    }
-    
-    private static void testSortingPerformance(String algorithmName, int[] arr, SortingAlgorithm algorithm) {
-        long startTime = System.nanoTime();
-        algorithm.sort(arr);
-        long endTime = System.nanoTime();
-        
-        long duration = (endTime - startTime) / 1_000_000; // Convert to milliseconds
-        System.out.println(algorithmName + ": " + duration + " ms");
-    }
-    
-    @FunctionalInterface
-    interface SortingAlgorithm {
-        void sort(int[] arr);
-    }
 }
 
 /*
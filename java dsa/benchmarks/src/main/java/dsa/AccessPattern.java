@@ -0,0 +1,44 @@
+package dsa;
+
+import java.util.Random;
+
+/**
+ * Access Pattern - Index sequences shared by the benchmarks
+ *
+ * sequential visits 0, 1, 2, ...; random visits a shuffled permutation with a fixed
+ * seed, so every fork and every structure sees the same order. For sorts the same
+ * sequence is the input: already sorted vs shuffled
+ */
+public final class AccessPattern {
+    
+    private AccessPattern() {}
+    
+    // Index sequence of length size for the named pattern
+    public static int[] order(int size, String pattern) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (pattern.equals("random")) {
+            Random random = new Random(42);
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+        } else if (!pattern.equals("sequential")) {
+            throw new IllegalArgumentException("Unknown access pattern: " + pattern + " (sequential, random)");
+        }
+        return order;
+    }
+    
+    // String keys "key0" .. "key<size-1>"
+    public static String[] keys(int size) {
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+        }
+        return keys;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package dsa;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Growable Array Benchmarks - growable ArrayStack/ArrayQueue vs ArrayDeque<Integer>
+ *
+ * One operation is a whole cycle over size elements, so gc.alloc.rate.norm (-prof gc)
+ * reads as bytes per cycle:
+ * - stack: push size values, then pop them all
+ * - queue: keep a window of size values while streaming 3 * size through, then drain
+ *   (front keeps moving, so every resize has to unwrap the circular array)
+ * The structures live for the whole trial: "grow" stops allocating once it reaches its
+ * peak, "grow + shrink" releases memory on every drain and pays to grow again, and
+ * ArrayDeque<Integer> boxes every value above 127
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class GrowableArrayBenchmarks {
+    
+    @Param({"1000", "1000000"})
+    int size;
+    
+    private StackImplementation.ArrayStack growingStack;
+    private StackImplementation.ArrayStack shrinkingStack;
+    private ArrayDeque<Integer> dequeStack;
+    private QueueImplementation.ArrayQueue growingQueue;
+    private QueueImplementation.ArrayQueue shrinkingQueue;
+    private ArrayDeque<Integer> dequeQueue;
+    
+    @Setup
+    public void setup() {
+        growingStack = new StackImplementation.ArrayStack(16, true, false);
+        shrinkingStack = new StackImplementation.ArrayStack(16, true, true);
+        dequeStack = new ArrayDeque<>(16);
+        growingQueue = new QueueImplementation.ArrayQueue(16, true, false);
+        shrinkingQueue = new QueueImplementation.ArrayQueue(16, true, true);
+        dequeQueue = new ArrayDeque<>(16);
+    }
+    
+    private long stackCycle(StackImplementation.ArrayStack stack) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) stack.push(i);
+        while (!stack.isEmpty()) sum += stack.pop();
+        return sum;
+    }
+    
+    private long queueCycle(QueueImplementation.ArrayQueue queue) {
+        long sum = 0;
+        for (int i = 0; i < 4 * size; i++) {
+            queue.enqueue(i);
+            if (i >= size) sum += queue.dequeue();
+        }
+        while (!queue.isEmpty()) sum += queue.dequeue();
+        return sum;
+    }
+    
+    @Benchmark
+    public long arrayStackGrow() {
+        return stackCycle(growingStack);
+    }
+    
+    @Benchmark
+    public long arrayStackGrowShrink() {
+        return stackCycle(shrinkingStack);
+    }
+    
+    @Benchmark
+    public long arrayDequeStack() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) dequeStack.push(i);
+        while (!dequeStack.isEmpty()) sum += dequeStack.pop();
+        return sum;
+    }
+    
+    @Benchmark
+    public long arrayQueueGrow() {
+        return queueCycle(growingQueue);
+    }
+    
+    @Benchmark
+    public long arrayQueueGrowShrink() {
+        return queueCycle(shrinkingQueue);
+    }
+    
+    @Benchmark
+    public long arrayDequeQueue() {
+        long sum = 0;
+        for (int i = 0; i < 4 * size; i++) {
+            dequeQueue.offer(i);
+            if (i >= size) sum += dequeQueue.poll();
+        }
+        while (!dequeQueue.isEmpty()) sum += dequeQueue.poll();
+        return sum;
+    }
+}
\ No newline at end of file
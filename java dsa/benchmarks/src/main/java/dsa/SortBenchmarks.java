@@ -0,0 +1,59 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Sort Benchmarks - O(n log n) sorts from SortingSearchingAlgorithms vs Arrays.sort
+ *
+ * Each operation sorts a fresh copy of the input; the copy is part of the measured
+ * time and costs the same for every sort. sequential = already sorted input,
+ * random = shuffled permutation. The O(n^2) sorts are in QuadraticSortBenchmarks
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    @Param({"sequential", "random"})
+    String pattern;
+    
+    private int[] input;
+    private int[] work;
+    
+    @Setup
+    public void setup() {
+        input = AccessPattern.order(size, pattern);
+        work = new int[size];
+    }
+    
+    private int[] fresh() {
+        System.arraycopy(input, 0, work, 0, size);
+        return work;
+    }
+    
+    @Benchmark
+    public int mergeSort() {
+        SortingSearchingAlgorithms.mergeSort(fresh(), 0, size - 1);
+        return work[size / 2];
+    }
+    
+    @Benchmark
+    public int heapSort() {
+        SortingSearchingAlgorithms.heapSort(fresh());
+        return work[size / 2];
+    }
+    
+    @Benchmark
+    public int arraysSort() {
+        Arrays.sort(fresh());
+        return work[size / 2];
+    }
+}
\ No newline at end of file
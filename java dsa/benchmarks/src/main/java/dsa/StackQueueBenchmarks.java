@@ -0,0 +1,67 @@
+package dsa;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Stack/Queue Benchmarks - ArrayStack and ArrayQueue vs ArrayDeque
+ *
+ * One push + pop (offer + poll) on a structure holding size / 2 elements.
+ * The access pattern does not apply: stacks and queues have no index
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class StackQueueBenchmarks {
+    
+    @Param({"1000", "100000"})
+    int size;
+    
+    private int value;
+    private StackImplementation.ArrayStack arrayStack;
+    private ArrayDeque<Integer> dequeStack;
+    private QueueImplementation.ArrayQueue arrayQueue;
+    private ArrayDeque<Integer> dequeQueue;
+    
+    @Setup
+    public void setup() {
+        arrayStack = new StackImplementation.ArrayStack(size);
+        dequeStack = new ArrayDeque<>(size);
+        arrayQueue = new QueueImplementation.ArrayQueue(size);
+        dequeQueue = new ArrayDeque<>(size);
+        for (int i = 0; i < size / 2; i++) {
+            arrayStack.push(i);
+            dequeStack.push(i);
+            arrayQueue.enqueue(i);
+            dequeQueue.offer(i);
+        }
+    }
+    
+    @Benchmark
+    public int arrayStackPushPop() {
+        arrayStack.push(value++);
+        return arrayStack.pop();
+    }
+    
+    @Benchmark
+    public int arrayDequePushPop() {
+        dequeStack.push(value++);
+        return dequeStack.pop();
+    }
+    
+    @Benchmark
+    public int arrayQueueEnqueueDequeue() {
+        arrayQueue.enqueue(value++);
+        return arrayQueue.dequeue();
+    }
+    
+    @Benchmark
+    public int arrayDequeOfferPoll() {
+        dequeQueue.offer(value++);
+        return dequeQueue.poll();
+    }
+}
\ No newline at end of file